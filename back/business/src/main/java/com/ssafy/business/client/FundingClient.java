@@ -27,6 +27,14 @@ public interface FundingClient {
             @RequestParam(name = "page") int page
     );
 
+    // 펀딩 페이지 펀딩 리스트 키셋(커서) 조회
+    @GetMapping("/api/funding/funding-page")
+    CursorPageResponseDTO<FundingResponseDTO> getFundingPageListByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "categories" ,required = false) List<String> categories,
+            @RequestParam(name = "cursor") String cursor
+    );
+
     // funding 서비스에게 최신 펀딩 리스트 데이터 요청
     @GetMapping("api/funding/latest-funding/{page}")
     List<FundingResponseDTO> getLatestFundingList(@PathVariable("page") int page);
@@ -40,8 +48,17 @@ public interface FundingClient {
     List<FundingResponseDTO> getSearchFundingList(
             @RequestParam(name = "sort") String sort,
             @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) String category,
             @RequestParam(name= "page") int page);
 
+    // 키워드 검색 search_after(커서) 조회
+    @GetMapping("api/funding/search")
+    CursorPageResponseDTO<FundingResponseDTO> getSearchFundingListByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "cursor") String cursor);
+
     @GetMapping("api/funding/suggest")
     List<String> getSuggestions(@RequestParam("prefix") String prefix);
 
@@ -52,6 +69,13 @@ public interface FundingClient {
             @RequestParam(name = "topic") String topic,
             @RequestParam(name= "page") int page);
 
+    // 베스트 펀딩, 마감임박 키셋(커서) 조회
+    @GetMapping("api/funding/search/special")
+    CursorPageResponseDTO<FundingWishCountResponseDto> getSearchSpecialFundingByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "topic") String topic,
+            @RequestParam(name = "cursor") String cursor);
+
     // funding 서비스에게 펀딩 상세 정보 요청
     @GetMapping("api/funding/detail/{fundingId}")
     FundingResponseDTO getFundingDetail(@PathVariable("fundingId") int fundingId);
@@ -60,6 +84,10 @@ public interface FundingClient {
     @GetMapping("api/funding/review")
     ReviewResponseDTO getFundingReview(@RequestParam(name="sellerId") int sellerId, @RequestParam(name="page") int page);
 
+    // funding 서비스에 펀딩 리뷰 키셋(커서) 조회
+    @GetMapping("api/funding/review")
+    ReviewPageResponseDTO getFundingReviewByCursor(@RequestParam(name="sellerId") int sellerId, @RequestParam(name="cursor") String cursor);
+
     // 판매자 상세페이지 판매자 정보 요청 조회
     @GetMapping("api/funding/seller/detail/{sellerId}")
     SellerDetailDTO getSellerDetail(@PathVariable("sellerId") int sellerId);
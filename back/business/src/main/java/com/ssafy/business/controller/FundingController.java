@@ -66,16 +66,40 @@ public class FundingController {
         return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING, fundingList), ResponseCode.GET_FUNDING.getHttpStatus());
     }
 
+    // 펀딩 페이지 펀딩 키셋(커서) 조회 - cursor 파라미터가 있으면 커서 모드 (첫 페이지는 빈 값)
+    @GetMapping(value = "/funding-page", params = "cursor")
+    public ResponseEntity<?> getFundingPageListByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "categories" ,required = false) List<String> categories,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        CursorPageResponseDTO<FundingResponseDTO> fundingPage = fundingService.getFundingPageListByCursor(sort, categories, cursor);
+        return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING, fundingPage), ResponseCode.GET_FUNDING.getHttpStatus());
+    }
+
     // 펀딩 키워드 검색 조회
     @GetMapping("/search")
     public ResponseEntity<?> getSearchFundingList(
             @RequestParam(name = "sort") String sort,
             @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) String category,
             @RequestParam(name= "page") int page){
-        List<FundingResponseDTO> fundingList = fundingSearchService.getSearchFundingList(sort, keyword, page);
+        List<FundingResponseDTO> fundingList = fundingSearchService.getSearchFundingList(sort, keyword, category, page);
         return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING, fundingList), ResponseCode.GET_FUNDING.getHttpStatus());
     }
 
+    // 펀딩 키워드 검색 커서 조회 (첫 페이지는 cursor 를 빈 값으로 요청)
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<?> getSearchFundingListByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+
+        CursorPageResponseDTO<FundingResponseDTO> fundingPage = fundingSearchService.getSearchFundingListByCursor(sort, keyword, category, cursor);
+        return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING, fundingPage), ResponseCode.GET_FUNDING.getHttpStatus());
+    }
+
     @GetMapping("/suggest")
     public ResponseEntity<?> getAutoCompleteSuggestions(@RequestParam(name = "prefix") String prefix){
         List<SuggestionResponseDto> dto = fundingSearchService.getAutoCompleteSuggestions(prefix);
@@ -92,6 +116,16 @@ public class FundingController {
         return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING, fundingList), ResponseCode.GET_FUNDING.getHttpStatus());
     }
 
+    @GetMapping(value = "/search/special", params = "cursor")
+    public ResponseEntity<?> getSearchSpecialFundingByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "topic") String topic,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+
+        CursorPageResponseDTO<FundingWishCountResponseDto> fundingPage = fundingSearchService.getSearchSpecialFundingByCursor(sort, topic, cursor);
+        return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING, fundingPage), ResponseCode.GET_FUNDING.getHttpStatus());
+    }
+
     // 펀딩 상세 페이지
     @GetMapping("/detail/{fundingId}")
     public ResponseEntity<?> getFundingDetail(@PathVariable int fundingId) {
@@ -105,6 +139,14 @@ public class FundingController {
         return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING_REVIEW, fundingDetail), ResponseCode.GET_FUNDING.getHttpStatus());
     }
 
+    // 펀딩 리뷰 키셋(커서) 조회 - cursor 파라미터가 있으면 커서 모드 (첫 페이지는 빈 값)
+    @GetMapping(value = "/review", params = "cursor")
+    public ResponseEntity<?> getFundingReviewByCursor(@RequestParam(name="sellerId") int sellerId,
+                                                      @RequestParam(name = "cursor", required = false) String cursor) {
+        ReviewPageResponseDTO reviewPage = fundingDetailService.getFundingReviewByCursor(sellerId, cursor);
+        return new ResponseEntity<>(Response.create(ResponseCode.GET_FUNDING_REVIEW, reviewPage), ResponseCode.GET_FUNDING.getHttpStatus());
+    }
+
     // 판매자 상세 정보 조회 (판매자 상세페이지 데이터 조회)
     @GetMapping("seller/detail/{sellerId}")
     public ResponseEntity<?> getSellerDetail(@PathVariable int sellerId) {
@@ -0,0 +1,13 @@
+package com.ssafy.business.dto.responseDTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CursorPageResponseDTO<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,15 @@
+package com.ssafy.business.dto.responseDTO;
+
+import com.ssafy.business.dto.ReviewDTO;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReviewPageResponseDTO {
+
+    private ReviewSummaryDTO summary; // 첫 페이지에만 포함
+    private List<ReviewDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,13 @@
+package com.ssafy.business.dto.responseDTO;
+
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class ReviewSummaryDTO {
+
+    private int reviewCount;
+    private float averageRating;
+    private Map<Integer, Integer> ratingHistogram; // 별점(1~5) → 리뷰 수
+}
@@ -1,5 +1,6 @@
 package com.ssafy.business.service;
 
+import com.ssafy.business.dto.responseDTO.CursorPageResponseDTO;
 import com.ssafy.business.dto.responseDTO.FundingResponseDTO;
 import com.ssafy.business.dto.responseDTO.FundingWishCountResponseDto;
 import com.ssafy.business.dto.responseDTO.SuggestionResponseDto;
@@ -9,11 +10,17 @@ import java.util.List;
 public interface FundingSearchService {
 
     // 펀딩 키워드 검색 조회
-    List<FundingResponseDTO> getSearchFundingList(String sort, String keyword, int page);
+    List<FundingResponseDTO> getSearchFundingList(String sort, String keyword, String category, int page);
+
+    // 펀딩 키워드 검색 커서 조회
+    CursorPageResponseDTO<FundingResponseDTO> getSearchFundingListByCursor(String sort, String keyword, String category, String cursor);
 
     // 베스트 , 마감임박 펀딩 조회
     List<FundingWishCountResponseDto> getSearchSpecialFunding(String sort , String topic, int page);
 
+    // 베스트 , 마감임박 펀딩 키셋(커서) 조회
+    CursorPageResponseDTO<FundingWishCountResponseDto> getSearchSpecialFundingByCursor(String sort, String topic, String cursor);
+
     List<SuggestionResponseDto> getAutoCompleteSuggestions(String prefix);
 
 }
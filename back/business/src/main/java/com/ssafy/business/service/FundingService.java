@@ -1,5 +1,6 @@
 package com.ssafy.business.service;
 
+import com.ssafy.business.dto.responseDTO.CursorPageResponseDTO;
 import com.ssafy.business.dto.responseDTO.FundingResponseDTO;
 
 import java.util.List;
@@ -21,5 +22,8 @@ public  interface FundingService {
     // 펀딩 페이지 펀딩 조회
     List<FundingResponseDTO> getFundingPageList(String sort, List<String> categories ,int page);
 
+    // 펀딩 페이지 펀딩 키셋(커서) 조회
+    CursorPageResponseDTO<FundingResponseDTO> getFundingPageListByCursor(String sort, List<String> categories, String cursor);
+
 
 }
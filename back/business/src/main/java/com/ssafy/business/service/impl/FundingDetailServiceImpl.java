@@ -3,16 +3,15 @@ package com.ssafy.business.service.impl;
 import com.ssafy.business.client.FundingClient;
 import com.ssafy.business.client.SellerClient;
 import com.ssafy.business.common.exception.CustomException;
-import com.ssafy.business.dto.ReviewDTO;
 import com.ssafy.business.dto.responseDTO.FundingDetailResponseDTO;
 import com.ssafy.business.dto.FundingDetailSellerDTO;
 import com.ssafy.business.dto.responseDTO.FundingResponseDTO;
+import com.ssafy.business.dto.responseDTO.ReviewPageResponseDTO;
 import com.ssafy.business.dto.responseDTO.ReviewResponseDTO;
 import com.ssafy.business.service.FundingDetailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import static com.ssafy.business.common.response.ResponseCode.*;
 @Service
 @RequiredArgsConstructor
@@ -31,27 +30,14 @@ public class FundingDetailServiceImpl implements FundingDetailService {
         return FundingDetailResponseDTO.from(fundingInfo, sellerInfo);
     }
 
-    // 펀딩 리뷰 조회
+    // 펀딩 리뷰 조회 - funding 서비스가 해당 페이지(5건)만 내려줌
     public ReviewResponseDTO getFundingReview(int sellerId, int page) {
-
-        ReviewResponseDTO reviewList = fundingClient.getFundingReview(sellerId, page);
-
-        List<ReviewDTO> pagedList = pagenate(reviewList.getReviews(), page, 5);
-
-        ReviewResponseDTO responseDTO = ReviewResponseDTO.builder()
-                .totalRating(reviewList.getTotalRating())
-                .reviews(pagedList)
-                .build();
-
-        return responseDTO;
+        return fundingClient.getFundingReview(sellerId, page);
     }
 
-    private List<ReviewDTO> pagenate(List<ReviewDTO> list, int page, int size) {
-        int total = list.size();
-        int start= Math.min((page -1) * size, total);
-        int end = Math.min(start + size, total);
-        List<ReviewDTO> reviewList = list.subList(start, end);
-        return reviewList;
+    // 펀딩 리뷰 키셋(커서) 조회 - 첫 페이지(빈 cursor)에 평점 요약/분포 포함
+    public ReviewPageResponseDTO getFundingReviewByCursor(int sellerId, String cursor) {
+        return fundingClient.getFundingReviewByCursor(sellerId, cursor == null ? "" : cursor);
     }
 
 }
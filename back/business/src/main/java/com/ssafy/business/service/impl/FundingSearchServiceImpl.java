@@ -2,6 +2,7 @@ package com.ssafy.business.service.impl;
 
 import com.ssafy.business.client.FundingClient;
 import com.ssafy.business.common.exception.CustomException;
+import com.ssafy.business.dto.responseDTO.CursorPageResponseDTO;
 import com.ssafy.business.dto.responseDTO.FundingResponseDTO;
 import com.ssafy.business.dto.responseDTO.FundingWishCountResponseDto;
 import com.ssafy.business.dto.responseDTO.SuggestionResponseDto;
@@ -20,13 +21,13 @@ public class FundingSearchServiceImpl implements FundingSearchService {
     private final FundingClient fundingClient;
 
     // 펀딩 키워드 검색 조회
-    public List<FundingResponseDTO> getSearchFundingList(String sort, String keyword, int page){
+    public List<FundingResponseDTO> getSearchFundingList(String sort, String keyword, String category, int page){
 
         if ( sort == null || (!sort.equals("latest") && !sort.equals("oldest") && !sort.equals("popular"))){
             throw new CustomException(SORT_BAD_REQUEST);
         }
 
-        List<FundingResponseDTO> fundingList = fundingClient.getSearchFundingList(sort, keyword, page);
+        List<FundingResponseDTO> fundingList = fundingClient.getSearchFundingList(sort, keyword, category, page);
 
         if (fundingList == null || fundingList.size() == 0) {
             throw new CustomException(FUNDING_NOT_FOUND);
@@ -35,6 +36,21 @@ public class FundingSearchServiceImpl implements FundingSearchService {
         return fundingList;
     }
 
+    // 펀딩 키워드 검색 커서 조회
+    public CursorPageResponseDTO<FundingResponseDTO> getSearchFundingListByCursor(String sort, String keyword, String category, String cursor) {
+
+        if ( sort == null || (!sort.equals("latest") && !sort.equals("oldest") && !sort.equals("popular"))){
+            throw new CustomException(SORT_BAD_REQUEST);
+        }
+
+        CursorPageResponseDTO<FundingResponseDTO> fundingPage = fundingClient.getSearchFundingListByCursor(sort, keyword, category, cursor == null ? "" : cursor);
+
+        if (fundingPage == null || fundingPage.getContent() == null || fundingPage.getContent().isEmpty()) {
+            throw new CustomException(FUNDING_NOT_FOUND);
+        }
+        return fundingPage;
+    }
+
     // 베스트 , 마감임박 펀딩 조회
     public List<FundingWishCountResponseDto> getSearchSpecialFunding(String sort , String topic, int page){
 
@@ -53,6 +69,24 @@ public class FundingSearchServiceImpl implements FundingSearchService {
         return funingList;
     }
 
+    // 베스트 , 마감임박 펀딩 키셋(커서) 조회
+    public CursorPageResponseDTO<FundingWishCountResponseDto> getSearchSpecialFundingByCursor(String sort, String topic, String cursor) {
+
+        if ( sort == null || (!sort.equals("none") && !sort.equals("latest") && !sort.equals("oldest") && !sort.equals("popular"))){
+            throw new CustomException(SORT_BAD_REQUEST);
+        }
+        if ( topic == null || (!topic.equals("best") && !topic.equals("soon"))){
+            throw new CustomException(TOPIC_BAD_REQUEST);
+        }
+
+        CursorPageResponseDTO<FundingWishCountResponseDto> fundingPage = fundingClient.getSearchSpecialFundingByCursor(sort, topic, cursor == null ? "" : cursor);
+
+        if (fundingPage == null || fundingPage.getContent() == null || fundingPage.getContent().isEmpty()) {
+            throw new CustomException(FUNDING_NOT_FOUND);
+        }
+        return fundingPage;
+    }
+
     @Override
     public List<SuggestionResponseDto> getAutoCompleteSuggestions(String prefix) {
         List<String> suggestions = fundingClient.getSuggestions(prefix);
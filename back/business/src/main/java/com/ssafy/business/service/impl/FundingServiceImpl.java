@@ -2,6 +2,7 @@ package com.ssafy.business.service.impl;
 
 import com.ssafy.business.client.FundingClient;
 import com.ssafy.business.common.exception.CustomException;
+import com.ssafy.business.dto.responseDTO.CursorPageResponseDTO;
 import com.ssafy.business.dto.responseDTO.FundingResponseDTO;
 import com.ssafy.business.service.FundingService;
 import lombok.RequiredArgsConstructor;
@@ -72,24 +73,39 @@ public class FundingServiceImpl implements FundingService {
         if (page <= 0) {
             page = 1;
         }
+        // "categories" :  //전체일때는 없이 FASHION, ELECTRONICS, HOUSEHOLD, INTERIOR, FOOD
+        validateFundingPageParams(sort, categories);
+        List<FundingResponseDTO> fundingList = fundingClient.getFundingPageList(sort, categories, page);
+
+        if (fundingList == null || fundingList.size() == 0) {
+            throw new CustomException(FUNDING_NOT_FOUND);
+        }
+        return fundingList;
+    }
+
+    public CursorPageResponseDTO<FundingResponseDTO> getFundingPageListByCursor(String sort, List<String> categories, String cursor) {
+        validateFundingPageParams(sort, categories);
+
+        // 첫 페이지는 빈 커서로 요청
+        CursorPageResponseDTO<FundingResponseDTO> fundingPage = fundingClient.getFundingPageListByCursor(sort, categories, cursor == null ? "" : cursor);
+
+        if (fundingPage == null || fundingPage.getContent() == null || fundingPage.getContent().isEmpty()) {
+            throw new CustomException(FUNDING_NOT_FOUND);
+        }
+        return fundingPage;
+    }
+
+    private void validateFundingPageParams(String sort, List<String> categories) {
         if ( sort == null || ( !sort.equals("latest") && !sort.equals("oldest") && !sort.equals("popular"))){
             throw new CustomException(SORT_BAD_REQUEST);
         }
-        // "categories" :  //전체일때는 없이 FASHION, ELECTRONICS, HOUSEHOLD, INTERIOR, FOOD
         if (categories != null) {
             Long categoriesSize = categories.stream().filter(VALID_CATEGORIES::contains).count();
 
             if (categoriesSize < categories.size()) {
                 throw new CustomException(CATEGORIES_BAD_REQUEST);
             }
-
         }
-        List<FundingResponseDTO> fundingList = fundingClient.getFundingPageList(sort, categories, page);
-
-        if (fundingList == null || fundingList.size() == 0) {
-            throw new CustomException(FUNDING_NOT_FOUND);
-        }
-        return fundingList;
     }
 }
 
@@ -0,0 +1,40 @@
+package com.coupon.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String DLT_SUFFIX = ".DLT";
+
+    /**
+     * 쿠폰 발급 이벤트 배치 리스너
+     * - poll 단위로 레코드를 받아 한 번에 저장하고, 재시도 후에도 실패한 레코드는 {topic}.DLT 로 보냅니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> couponBatchListenerContainerFactory(
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${coupon.kafka.retry.interval-ms:1000}") long retryIntervalMs,
+            @Value("${coupon.kafka.retry.max-attempts:2}") long retryMaxAttempts
+    ) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+
+        // 파티션을 지정하지 않아 DLT 파티션 수가 원본 토픽과 달라도 전송 가능
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(retryIntervalMs, retryMaxAttempts)));
+        return factory;
+    }
+}
@@ -0,0 +1,69 @@
+package com.coupon.dto;
+
+import com.coupon.common.exception.CustomException;
+import com.coupon.entity.Coupon;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.coupon.common.response.ResponseCode.COUPON_EXPIRED;
+
+/**
+ * 발급 경로에서 사용하는 쿠폰 메타데이터 (Redis Hash / 인메모리 보관용)
+ * - 발급 게이트(Lua) 이전 단계에서 MySQL 을 조회하지 않기 위해 유효기간/수량/할인액만 담습니다.
+ */
+public record CouponMeta(
+        int couponId,
+        int couponCode,
+        int totalQuantity,
+        int discountAmount,
+        int shardCount,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+    public static CouponMeta from(Coupon coupon) {
+        return new CouponMeta(
+                coupon.getCouponId(),
+                coupon.getCouponCode(),
+                coupon.getTotalQuantity(),
+                coupon.getDiscountAmount(),
+                Math.max(1, coupon.getShardCount()),
+                coupon.getStartDate(),
+                coupon.getEndDate()
+        );
+    }
+
+    public static CouponMeta fromHash(Map<Object, Object> hash) {
+        return new CouponMeta(
+                Integer.parseInt((String) hash.get("couponId")),
+                Integer.parseInt((String) hash.get("couponCode")),
+                Integer.parseInt((String) hash.get("totalQuantity")),
+                Integer.parseInt((String) hash.get("discountAmount")),
+                Integer.parseInt((String) hash.getOrDefault("shardCount", "1")),
+                LocalDateTime.parse((String) hash.get("startDate")),
+                LocalDateTime.parse((String) hash.get("endDate"))
+        );
+    }
+
+    public Map<String, String> toHash() {
+        return Map.of(
+                "couponId", String.valueOf(couponId),
+                "couponCode", String.valueOf(couponCode),
+                "totalQuantity", String.valueOf(totalQuantity),
+                "discountAmount", String.valueOf(discountAmount),
+                "shardCount", String.valueOf(shardCount),
+                "startDate", startDate.toString(),
+                "endDate", endDate.toString()
+        );
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    // Coupon.validateIssuable 과 동일한 기간 검증
+    public void validateIssuable() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!(now.isAfter(startDate) && now.isBefore(endDate))) throw new CustomException(COUPON_EXPIRED);
+    }
+}
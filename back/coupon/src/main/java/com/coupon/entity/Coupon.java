@@ -31,6 +31,9 @@ public class Coupon {
     private int totalQuantity;
     private int discountAmount;
 
+    // 재고 샤드 수 : 2 이상이면 잔여 재고를 샤드별 키로 나눠 관리
+    private int shardCount;
+
     private LocalDateTime startDate;
     private LocalDateTime endDate;
 
@@ -42,10 +45,16 @@ public class Coupon {
 
     public static Coupon create(int couponCode, int totalQuantity, int discountAmount,
                                 LocalDateTime startDate, LocalDateTime endDate) {
+        return create(couponCode, totalQuantity, discountAmount, 1, startDate, endDate);
+    }
+
+    public static Coupon create(int couponCode, int totalQuantity, int discountAmount, int shardCount,
+                                LocalDateTime startDate, LocalDateTime endDate) {
         Coupon coupon = new Coupon();
         coupon.couponCode = couponCode;
         coupon.totalQuantity = totalQuantity;
         coupon.discountAmount = discountAmount;
+        coupon.shardCount = shardCount;
         coupon.startDate = startDate;
         coupon.endDate = endDate;
         coupon.createAt = LocalDateTime.now();
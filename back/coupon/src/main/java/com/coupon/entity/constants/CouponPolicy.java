@@ -3,4 +3,6 @@ package com.coupon.entity.constants;
 public class CouponPolicy {
     public static final int DAILY_COUPON_QUANTITY = 300;
     public static final int DAILY_COUPON_DISCOUNT = 3000;
+    // 재고 샤드 수 (1 이면 단일 coupon:count 키 사용)
+    public static final int DAILY_COUPON_SHARD_COUNT = 1;
 }
@@ -1,43 +1,71 @@
 package com.coupon.kafka;
 
-import com.coupon.common.exception.CustomException;
+import com.coupon.dto.CouponIssuedDto;
 import com.coupon.dto.CouponIssuedEvent;
-import com.coupon.entity.Coupon;
-import com.coupon.entity.CouponIssued;
-import com.coupon.repository.CouponIssuedRepository;
-import com.coupon.repository.CouponRepository;
+import com.coupon.dto.CouponMeta;
+import com.coupon.repository.CouponIssuedBulkRepository;
+import com.coupon.service.CouponMetaCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
-import static com.coupon.common.response.ResponseCode.COUPON_NOT_FOUND;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponKafkaConsumer {
 
-    private final CouponRepository couponRepository;
-    private final CouponIssuedRepository couponIssuedRepository;
+    private final CouponMetaCache couponMetaCache;
+    private final CouponIssuedBulkRepository couponIssuedBulkRepository;
 
-    @KafkaListener(topics = "coupon", groupId = "coupon-v2")
-    public void consume(CouponIssuedEvent event) {
-        try {
-            Coupon coupon = couponRepository.findByCouponCode(event.couponCode())
-                    .orElseThrow(() -> new CustomException(COUPON_NOT_FOUND));
+    /**
+     * poll 단위(최대 max.poll.records) 배치 저장
+     * - 쿠폰은 메타데이터 캐시에서 쿠폰 코드별로 한 번만 조회하고, 배치 내 중복은 메모리에서 제거합니다.
+     * - 이미 발급된 건은 INSERT IGNORE 로 건너뜁니다.
+     * - 실패 시 실패한 레코드 위치를 BatchListenerFailedException 으로 알려, 앞선 레코드는 커밋되고
+     *   해당 레코드는 재시도 후 DLT 로 이동합니다.
+     */
+    @KafkaListener(topics = "coupon", groupId = "coupon-v2",
+            containerFactory = "couponBatchListenerContainerFactory",
+            properties = "max.poll.records=${coupon.kafka.batch-size:500}")
+    public void consume(List<ConsumerRecord<String, CouponIssuedEvent>> records) {
+        List<CouponIssuedDto> pending = new ArrayList<>();
+        Set<CouponIssuedDto> seen = new HashSet<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            CouponIssuedEvent event = records.get(i).value();
+            CouponMeta coupon = (event == null) ? null : couponMetaCache.get(event.couponCode());
 
-            if (couponIssuedRepository.existsByUserIdAndCoupon(event.userId(), coupon)) {
-                log.warn("이미 발급된 쿠폰입니다 - userId: {}, couponCode: {}", event.userId(), event.couponCode());
-                return;
+            if (coupon == null) {
+                // 앞선 레코드까지 저장한 뒤, 이 레코드부터 재처리되도록 위치를 넘김
+                flush(pending, records);
+                throw new BatchListenerFailedException("쿠폰을 찾을 수 없습니다 - event: " + event, i);
             }
-            CouponIssued issued = event.toEntity(coupon);
-            couponIssuedRepository.save(issued);
-            log.info("쿠폰 DB 저장 완료 - userId: {}, couponCode: {}", event.userId(), event.couponCode());
-        } catch (Exception e) {
-            log.error("Consumer 오류 - userId: {}, couponCode: {}, error: {}",
-                    event.userId(), event.couponCode(), e.getMessage(), e);
+
+            CouponIssuedDto issued = new CouponIssuedDto(coupon.couponId(), event.userId());
+            if (seen.add(issued)) pending.add(issued);
         }
+
+        flush(pending, records);
     }
 
+    // 저장 실패 시 배치 처음부터 재처리
+    private void flush(List<CouponIssuedDto> pending, List<ConsumerRecord<String, CouponIssuedEvent>> records) {
+        if (pending.isEmpty()) return;
+
+        try {
+            int inserted = couponIssuedBulkRepository.insertIgnore(pending);
+            log.info("쿠폰 DB 배치 저장 완료 - 요청: {}, 저장: {}, 중복: {}", pending.size(), inserted, pending.size() - inserted);
+        } catch (Exception e) {
+            // INSERT IGNORE 라 재시도해도 중복 저장되지 않음
+            throw new BatchListenerFailedException("쿠폰 배치 저장 실패", e, records.get(0));
+        }
+    }
 }
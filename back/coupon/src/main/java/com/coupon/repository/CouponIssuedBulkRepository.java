@@ -0,0 +1,41 @@
+package com.coupon.repository;
+
+import com.coupon.dto.CouponIssuedDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * coupon_issued 대량 저장
+ * - IDENTITY 전략에서는 JPA 배치 insert 가 동작하지 않으므로 JDBC batchUpdate 로 저장합니다.
+ * - uk_user_coupon(user_id, coupon_id) 유니크 키에 INSERT IGNORE 를 사용해 재전송/재시도 시에도 중복 저장되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponIssuedBulkRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO coupon_issued (coupon_id, user_id, is_used) VALUES (?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 실제로 저장된 행 수 반환 (이미 발급된 건은 0 으로 집계)
+    public int insertIgnore(List<CouponIssuedDto> issuedList) {
+        if (issuedList.isEmpty()) return 0;
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, issuedList, issuedList.size(), (ps, issued) -> {
+            ps.setInt(1, issued.couponId());
+            ps.setInt(2, issued.userId());
+        });
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count > 0) inserted++;
+            }
+        }
+        return inserted;
+    }
+}
@@ -1,39 +1,128 @@
 package com.coupon.service;
 
-import com.coupon.entity.constants.CouponPolicy;
+import com.coupon.dto.CouponMeta;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
 import static com.coupon.common.util.CouponUtil.generateTodayCode;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class CouponExecutor {
+    private static final String COUPON_ISSUE_SCRIPT_PATH = "scripts/coupon_issue.lua";
+    private static final String SHARDED_ISSUE_SCRIPT_PATH = "scripts/coupon_issue_sharded.lua";
+    private static final String STOCK_STEAL_SCRIPT_PATH = "scripts/coupon_stock_steal.lua";
+    private static final String STOLEN_ISSUE_SCRIPT_PATH = "scripts/coupon_issue_stolen.lua";
+
     private final RedisTemplate<String, Object> redisTemplate;
 
+    // 스크립트는 기동 시 한 번만 읽고 SHA1 도 한 번만 계산
+    // RedisTemplate 은 EVALSHA 로 호출하고, NOSCRIPT(재시작/FLUSH) 시 EVAL 로 자동 재적재함
+    private final RedisScript<Long> couponIssueScript;
+    private final RedisScript<Long> shardedIssueScript;
+    private final RedisScript<Long> stockStealScript;
+    private final RedisScript<Long> stolenIssueScript;
+
+    public CouponExecutor(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.couponIssueScript = loadScript(COUPON_ISSUE_SCRIPT_PATH);
+        this.shardedIssueScript = loadScript(SHARDED_ISSUE_SCRIPT_PATH);
+        this.stockStealScript = loadScript(STOCK_STEAL_SCRIPT_PATH);
+        this.stolenIssueScript = loadScript(STOLEN_ISSUE_SCRIPT_PATH);
+    }
+
     @PostConstruct
     public void initializeCouponCounts() {
         int todayCode = generateTodayCode();
         String countKey = "coupon:count:" + todayCode;
         redisTemplate.opsForValue().setIfAbsent(countKey, "0");
+
+        // 첫 발급 요청이 EVAL 로 스크립트 본문을 보내지 않도록 미리 SCRIPT LOAD
+        for (RedisScript<Long> script : List.of(couponIssueScript, shardedIssueScript, stockStealScript, stolenIssueScript)) {
+            String sha = redisTemplate.execute((RedisCallback<String>) connection -> {
+                RedisScriptingCommands scripting = connection.scriptingCommands();
+                return scripting.scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+            });
+            log.info("쿠폰 발급 스크립트 등록 완료 - sha1: {}", sha);
+        }
     }
 
-    public long executeCoupon(String userKey, String couponKey, String totalQuantity, String ttlSeconds) throws IOException {
-        ClassPathResource resource = new ClassPathResource("scripts/coupon_issue.lua");
-        String script = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    /**
+     * 샤드 재고 초기화 : 총 수량을 샤드 수로 나눠 앞 샤드부터 나머지를 1개씩 더 배정
+     * 이미 초기화된 샤드는 건드리지 않음 (재시작 시 재고 복구 방지)
+     */
+    public void initializeShardStock(CouponMeta coupon) {
+        if (coupon == null || !coupon.isSharded()) return;
 
-        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>(script, Long.class);
+        int shardCount = coupon.shardCount();
+        int base = coupon.totalQuantity() / shardCount;
+        int remainder = coupon.totalQuantity() % shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            int quantity = base + (shard < remainder ? 1 : 0);
+            redisTemplate.opsForValue().setIfAbsent(shardStockKey(coupon.couponCode(), shard), String.valueOf(quantity));
+        }
+    }
 
+    public long executeCoupon(String userKey, String couponKey, String totalQuantity, String ttlSeconds) {
         List<String> keys = Arrays.asList(userKey, couponKey);
-        return redisTemplate.execute(redisScript, keys, totalQuantity, ttlSeconds);
+        return redisTemplate.execute(couponIssueScript, keys, totalQuantity, ttlSeconds);
+    }
+
+    /**
+     * 샤드 재고 발급
+     * - 사용자 ID 해시로 홈 샤드를 정하고, 발급 여부 키도 같은 해시태그에 두어 한 스크립트에서 원자적으로 판단합니다.
+     * - 홈 샤드가 소진되면 다른 샤드에서 남은 재고의 절반을 빌려와 홈 샤드에 적립한 뒤 발급합니다.
+     *   재고는 차감에 성공한 뒤에만 발급하므로 어떤 경우에도 총 수량을 넘지 않습니다.
+     *
+     * @return 1 발급, 0 재고 소진, -1 이미 발급
+     */
+    public long executeShardedCoupon(int userId, CouponMeta coupon, String ttlSeconds) {
+        int shardCount = coupon.shardCount();
+        int homeShard = Math.floorMod(Integer.hashCode(userId), shardCount);
+        String userKey = shardUserKey(coupon.couponCode(), homeShard, userId);
+        String homeStockKey = shardStockKey(coupon.couponCode(), homeShard);
+
+        long result = redisTemplate.execute(shardedIssueScript, Arrays.asList(userKey, homeStockKey), ttlSeconds);
+        if (result != 0) return result;
+
+        for (int i = 1; i < shardCount; i++) {
+            String donorStockKey = shardStockKey(coupon.couponCode(), (homeShard + i) % shardCount);
+            Long taken = redisTemplate.execute(stockStealScript, List.of(donorStockKey));
+            if (taken == null || taken <= 0) continue;
+
+            return redisTemplate.execute(stolenIssueScript, Arrays.asList(userKey, homeStockKey), String.valueOf(taken), ttlSeconds);
+        }
+        return 0;
+    }
+
+    // 해시태그로 샤드마다 다른 슬롯에 배치되도록 함
+    private static String shardStockKey(int couponCode, int shard) {
+        return "coupon:stock:{" + couponCode + ":" + shard + "}";
+    }
+
+    private static String shardUserKey(int couponCode, int shard, int userId) {
+        return "coupon:issued:{" + couponCode + ":" + shard + "}:" + userId;
+    }
+
+    private static RedisScript<Long> loadScript(String path) {
+        try {
+            String script = new String(new ClassPathResource(path).getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            return new DefaultRedisScript<>(script, Long.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lua 스크립트 로드 실패: " + path, e);
+        }
     }
 }
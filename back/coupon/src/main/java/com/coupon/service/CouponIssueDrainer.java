@@ -0,0 +1,243 @@
+package com.coupon.service;
+
+import com.coupon.dto.CouponIssuedDto;
+import com.coupon.dto.CouponMeta;
+import com.coupon.repository.CouponIssuedBulkRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 발급 대기열(coupon:queue) 드레이너
+ * - BLPOP 으로 첫 원소가 들어올 때까지 대기한 뒤 LPOP count 로 나머지를 한 번에 꺼내 배치 저장합니다.
+ *   대기열이 비어 있으면 BLPOP 에서 블로킹되므로 폴링/라운드트립이 발생하지 않습니다.
+ * - 저장 실패 시 지수 백오프로 지연 재시도(ZSET)하고, 최대 횟수를 넘기거나 해석할 수 없는 원소는 주차(parked) 리스트로 보냅니다.
+ * - 원소 형식: "userId:couponCode[:attempt[:enqueuedAtMillis]]"
+ * - 꺼낸 원소는 Lua 게이트에서 이미 발급 처리된 사용자이므로, 메타 조회/저장 중 어떤 오류가 나도 재시도 큐로 보내 유실하지 않습니다.
+ * - 이전 스케줄러의 재시도 리스트(coupon:queue:retry)에 남은 원소는 기동 시 coupon:queue 앞쪽으로 한 번 옮겨 처리합니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueDrainer {
+
+    private static final String QUEUE_KEY = "coupon:queue";
+    private static final String DELAYED_KEY = "coupon:queue:delayed";
+    private static final String PARKED_KEY = "coupon:queue:parked";
+    // 이전 CouponIssueScheduler 의 재시도 리스트 (배포 시 남아 있던 원소 이관용)
+    private static final String LEGACY_RETRY_KEY = "coupon:queue:retry";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponMetaCache couponMetaCache;
+    private final CouponIssuedBulkRepository couponIssuedBulkRepository;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration blockTimeout;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> new Thread(r, "coupon-issue-drainer"));
+    private final AtomicLong lastEnqueuedAt = new AtomicLong();
+    private volatile boolean running = true;
+
+    public CouponIssueDrainer(RedisTemplate<String, Object> redisTemplate,
+                              CouponMetaCache couponMetaCache,
+                              CouponIssuedBulkRepository couponIssuedBulkRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${coupon.queue.batch-size:500}") int batchSize,
+                              @Value("${coupon.queue.max-attempts:5}") int maxAttempts,
+                              @Value("${coupon.queue.backoff.base-ms:500}") long baseBackoffMillis,
+                              @Value("${coupon.queue.backoff.max-ms:60000}") long maxBackoffMillis,
+                              @Value("${coupon.queue.block-timeout-seconds:1}") long blockTimeoutSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.couponMetaCache = couponMetaCache;
+        this.couponIssuedBulkRepository = couponIssuedBulkRepository;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.blockTimeout = Duration.ofSeconds(blockTimeoutSeconds);
+
+        Gauge.builder("coupon.issue.queue.depth", () -> sizeOf(QUEUE_KEY)).register(meterRegistry);
+        Gauge.builder("coupon.issue.queue.delayed", () -> zsetSizeOf(DELAYED_KEY)).register(meterRegistry);
+        Gauge.builder("coupon.issue.queue.parked", () -> sizeOf(PARKED_KEY)).register(meterRegistry);
+        // 마지막으로 꺼낸 원소가 대기열에 머문 시간 (enqueuedAt 이 없는 원소는 집계하지 않고, 대기열이 비면 0)
+        Gauge.builder("coupon.issue.queue.lag", this::lagMillis).baseUnit("milliseconds").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.submit(this::drainLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.shutdown();
+        worker.awaitTermination(blockTimeout.toSeconds() + 5, TimeUnit.SECONDS);
+    }
+
+    private void drainLoop() {
+        migrateLegacyRetries();
+        while (running) {
+            try {
+                promoteDueRetries();
+
+                Object first = redisTemplate.opsForList().leftPop(QUEUE_KEY, blockTimeout);
+                if (first == null) {
+                    lastEnqueuedAt.set(0);
+                    continue;
+                }
+
+                List<String> batch = new ArrayList<>();
+                batch.add((String) first);
+                List<Object> rest = redisTemplate.opsForList().leftPop(QUEUE_KEY, batchSize - 1);
+                if (rest != null) rest.forEach(data -> batch.add((String) data));
+
+                persist(batch);
+            } catch (Exception e) {
+                if (!running) break;
+                log.error("쿠폰 대기열 처리 오류: {}", e.getMessage(), e);
+                sleepQuietly(blockTimeout.toMillis());
+            }
+        }
+    }
+
+    // 원소 단위로 원자적으로 옮기므로 여러 인스턴스가 동시에 실행해도 중복/유실 없음 (오래된 원소라 대기열 앞쪽에 넣음)
+    private void migrateLegacyRetries() {
+        try {
+            long moved = 0;
+            while (running && redisTemplate.opsForList().rightPopAndLeftPush(LEGACY_RETRY_KEY, QUEUE_KEY) != null) {
+                moved++;
+            }
+            if (moved > 0) log.info("이전 재시도 리스트 이관 완료 - 건수: {}", moved);
+        } catch (Exception e) {
+            log.error("이전 재시도 리스트 이관 실패 (다음 기동 시 다시 시도): {}", e.getMessage(), e);
+        }
+    }
+
+    // 재시도 시각이 지난 원소를 지연 큐에서 꺼내 처리 (ZREM 에 성공한 인스턴스만 처리)
+    private void promoteDueRetries() {
+        Set<Object> due = redisTemplate.opsForZSet().rangeByScore(DELAYED_KEY, 0, System.currentTimeMillis(), 0, batchSize);
+        if (due == null || due.isEmpty()) return;
+
+        List<String> batch = new ArrayList<>();
+        for (Object data : due) {
+            Long removed = redisTemplate.opsForZSet().remove(DELAYED_KEY, data);
+            if (removed != null && removed > 0) batch.add((String) data);
+        }
+        persist(batch);
+    }
+
+    private void persist(List<String> batch) {
+        if (batch.isEmpty()) return;
+
+        List<QueueEntry> entries = new ArrayList<>();
+        for (String data : batch) {
+            QueueEntry entry = QueueEntry.parse(data);
+            if (entry == null) {
+                log.warn("쿠폰 대기열 원소 해석 불가, 주차 처리: {}", data);
+                redisTemplate.opsForList().rightPush(PARKED_KEY, data);
+                continue;
+            }
+            if (entry.enqueuedAt() > 0) lastEnqueuedAt.set(entry.enqueuedAt());
+            entries.add(entry);
+        }
+
+        // 메타 조회(Redis/DB)와 저장을 한 번에 감싸, 어느 단계에서 실패해도 꺼낸 원소 전부를 재시도
+        List<QueueEntry> unknown = new ArrayList<>();
+        try {
+            Set<CouponIssuedDto> issuedSet = new LinkedHashSet<>();
+            for (QueueEntry entry : entries) {
+                CouponMeta coupon = couponMetaCache.get(entry.couponCode());
+                if (coupon == null) {
+                    unknown.add(entry);
+                    continue;
+                }
+                issuedSet.add(new CouponIssuedDto(coupon.couponId(), entry.userId()));
+            }
+            int inserted = couponIssuedBulkRepository.insertIgnore(new ArrayList<>(issuedSet));
+            log.debug("쿠폰 대기열 배치 저장 완료 - 요청: {}, 저장: {}", issuedSet.size(), inserted);
+        } catch (Exception e) {
+            log.error("쿠폰 대기열 배치 처리 실패 - 건수: {}, 에러: {}", entries.size(), e.getMessage());
+            entries.forEach(this::scheduleRetry);
+            return;
+        }
+
+        for (QueueEntry entry : unknown) {
+            log.warn("존재하지 않는 쿠폰, 주차 처리 - 사용자: {}, 쿠폰: {}", entry.userId(), entry.couponCode());
+            redisTemplate.opsForList().rightPush(PARKED_KEY, entry.format());
+        }
+    }
+
+    private void scheduleRetry(QueueEntry entry) {
+        QueueEntry next = entry.nextAttempt();
+        if (next.attempt() >= maxAttempts) {
+            log.warn("쿠폰 저장 재시도 초과, 주차 처리 - 사용자: {}, 쿠폰: {}", entry.userId(), entry.couponCode());
+            redisTemplate.opsForList().rightPush(PARKED_KEY, next.format());
+            return;
+        }
+        long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(next.attempt() - 1, 20));
+        redisTemplate.opsForZSet().add(DELAYED_KEY, next.format(), System.currentTimeMillis() + backoff);
+    }
+
+    private double sizeOf(String key) {
+        Long size = redisTemplate.opsForList().size(key);
+        return size == null ? 0 : size;
+    }
+
+    private double zsetSizeOf(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size == null ? 0 : size;
+    }
+
+    private double lagMillis() {
+        long enqueuedAt = lastEnqueuedAt.get();
+        return enqueuedAt == 0 ? 0 : System.currentTimeMillis() - enqueuedAt;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record QueueEntry(int userId, int couponCode, int attempt, long enqueuedAt) {
+
+        static QueueEntry parse(String data) {
+            try {
+                String[] parts = data.split(":");
+                int attempt = parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+                long enqueuedAt = parts.length > 3 ? Long.parseLong(parts[3]) : 0L;
+                return new QueueEntry(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), attempt, enqueuedAt);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        QueueEntry nextAttempt() {
+            return new QueueEntry(userId, couponCode, attempt + 1, enqueuedAt);
+        }
+
+        String format() {
+            return userId + ":" + couponCode + ":" + attempt + ":" + enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.coupon.service;
+
+import com.coupon.dto.CouponMeta;
+import com.coupon.entity.Coupon;
+import com.coupon.repository.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 메타데이터 캐시 (인메모리 → Redis Hash → MySQL)
+ * - 쿠폰 생성 시점(CouponScheduler)에 Redis 와 인메모리에 미리 적재하여, 발급 요청은 DB 를 거치지 않습니다.
+ * - 인스턴스 재시작 등으로 비어 있을 때만 Redis, 그마저 없으면 DB 에서 한 번 적재합니다.
+ *   같은 쿠폰 코드의 동시 미스는 먼저 들어온 요청 하나만 조회하고 나머지는 그 결과를 기다립니다. (조회는 맵 잠금 밖에서 실행)
+ * - 없는 쿠폰 코드도 negative-ttl 동안 인메모리와 Redis 에 "없음" 으로 남겨, 잘못된 코드가 몰려도 MySQL 을 반복 조회하지 않습니다.
+ */
+@Slf4j
+@Component
+public class CouponMetaCache {
+
+    private static final String META_KEY_PREFIX = "coupon:meta:";
+    private static final String MISSING_KEY_PREFIX = "coupon:meta:missing:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponRepository couponRepository;
+    private final Duration negativeTtl;
+    private final int negativeCacheSize;
+
+    private final Map<Integer, CouponMeta> localCache = new ConcurrentHashMap<>();
+    // 없는 쿠폰 코드 → 만료 시각(System.nanoTime 기준)
+    private final Map<Integer, Long> missingUntil = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<CouponMeta>> loading = new ConcurrentHashMap<>();
+
+    public CouponMetaCache(RedisTemplate<String, Object> redisTemplate,
+                           CouponRepository couponRepository,
+                           @Value("${coupon.meta.negative-ttl-seconds:5}") long negativeTtlSeconds,
+                           @Value("${coupon.meta.negative-cache-size:10000}") int negativeCacheSize) {
+        this.redisTemplate = redisTemplate;
+        this.couponRepository = couponRepository;
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.negativeCacheSize = negativeCacheSize;
+    }
+
+    public void preload(Coupon coupon) {
+        CouponMeta meta = CouponMeta.from(coupon);
+        putRedis(meta);
+        redisTemplate.delete(MISSING_KEY_PREFIX + meta.couponCode());
+        localCache.put(meta.couponCode(), meta);
+        missingUntil.remove(meta.couponCode());
+        log.info("쿠폰 메타데이터 적재 완료 - couponCode: {}", meta.couponCode());
+    }
+
+    // 없는 쿠폰이면 null
+    public CouponMeta get(int couponCode) {
+        CouponMeta cached = localCache.get(couponCode);
+        if (cached != null) return cached;
+
+        Long until = missingUntil.get(couponCode);
+        if (until != null) {
+            if (until - System.nanoTime() > 0) return null;
+            missingUntil.remove(couponCode, until);
+        }
+
+        CompletableFuture<CouponMeta> mine = new CompletableFuture<>();
+        CompletableFuture<CouponMeta> inFlight = loading.putIfAbsent(couponCode, mine);
+        if (inFlight != null) return inFlight.join();
+
+        try {
+            CouponMeta meta = load(couponCode);
+            if (meta != null) localCache.put(couponCode, meta);
+            else rememberMissing(couponCode);
+            mine.complete(meta);
+            return meta;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(couponCode, mine);
+        }
+    }
+
+    private CouponMeta load(int couponCode) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(META_KEY_PREFIX + couponCode);
+        if (!hash.isEmpty()) return CouponMeta.fromHash(hash);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(MISSING_KEY_PREFIX + couponCode))) return null;
+
+        CouponMeta meta = couponRepository.findByCouponCode(couponCode).map(CouponMeta::from).orElse(null);
+        if (meta != null) putRedis(meta);
+        else redisTemplate.opsForValue().set(MISSING_KEY_PREFIX + couponCode, "1", negativeTtl);
+        return meta;
+    }
+
+    // 잘못된 코드가 계속 들어와도 메모리가 늘지 않도록 크기를 넘으면 만료분부터 정리
+    private void rememberMissing(int couponCode) {
+        if (missingUntil.size() >= negativeCacheSize) {
+            long now = System.nanoTime();
+            missingUntil.values().removeIf(until -> until - now <= 0);
+            if (missingUntil.size() >= negativeCacheSize) missingUntil.clear();
+        }
+        missingUntil.put(couponCode, System.nanoTime() + negativeTtl.toNanos());
+    }
+
+    private void putRedis(CouponMeta meta) {
+        String key = META_KEY_PREFIX + meta.couponCode();
+        redisTemplate.opsForHash().putAll(key, meta.toHash());
+
+        // 쿠폰 종료 후 하루 더 보관
+        Duration ttl = Duration.between(LocalDateTime.now(), meta.endDate()).plusDays(1);
+        if (!ttl.isNegative()) redisTemplate.expire(key, ttl);
+    }
+}
@@ -2,16 +2,12 @@ package com.coupon.service;
 
 import com.coupon.common.exception.CustomException;
 import com.coupon.dto.CouponIssuedEvent;
-import com.coupon.entity.Coupon;
-import com.coupon.entity.constants.CouponPolicy;
+import com.coupon.dto.CouponMeta;
 import com.coupon.kafka.CouponKafkaProducer;
-import com.coupon.repository.CouponIssuedRepository;
-import com.coupon.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -26,25 +22,23 @@ public class CouponRedisService {
 
     private final CouponExecutor couponExecutor;
     private final CouponKafkaProducer couponKafkaProducer;
-    private final CouponRepository couponRepository;
-    private final CouponIssuedRepository couponIssuedRepository;
-
-    public void issueCoupon(int userId, int couponCode) throws IOException {
-        Coupon coupon = couponRepository.findByCouponCode(couponCode)
-                .orElseThrow(() -> new CustomException(COUPON_NOT_FOUND));
-
-        coupon.validateIssuable();
-
-        if (couponIssuedRepository.existsByUserIdAndCoupon(userId, coupon)) throw new CustomException(COUPON_ALREADY_ISSUED);
+    private final CouponMetaCache couponMetaCache;
 
+    // 발급 게이트(Lua) 이전에는 MySQL 을 조회하지 않음
+    // 중복 발급은 coupon:issued:* 키로, 수량은 coupon:count:* 키로 스크립트에서 판단
+    public void issueCoupon(int userId, int couponCode) {
         LocalTime now = LocalTime.now(ZoneId.of("Asia/Seoul"));
         if (now.isBefore(LocalTime.of(10, 0))) throw new CustomException(COUPON_NOT_YET_TIME);
 
-        String userKey = "coupon:issued:" + userId + ":" + couponCode;
-        String countKey = "coupon:count:" + couponCode;
-        long ttlSeconds = getTimeToLive();
+        CouponMeta coupon = couponMetaCache.get(couponCode);
+        if (coupon == null) throw new CustomException(COUPON_NOT_FOUND);
 
-        long result = couponExecutor.executeCoupon(userKey, countKey, String.valueOf(CouponPolicy.DAILY_COUPON_QUANTITY), String.valueOf(ttlSeconds));
+        coupon.validateIssuable();
+
+        long ttlSeconds = getTimeToLive();
+        long result = coupon.isSharded()
+                ? couponExecutor.executeShardedCoupon(userId, coupon, String.valueOf(ttlSeconds))
+                : issueSingleCounter(userId, coupon, ttlSeconds);
 
         if (result == -1) throw new CustomException(COUPON_ALREADY_ISSUED);
         if (result == 0) throw new CustomException(COUPON_OUT_OF_STOCK);
@@ -54,6 +48,12 @@ public class CouponRedisService {
         );
     }
 
+    private long issueSingleCounter(int userId, CouponMeta coupon, long ttlSeconds) {
+        String userKey = "coupon:issued:" + userId + ":" + coupon.couponCode();
+        String countKey = "coupon:count:" + coupon.couponCode();
+        return couponExecutor.executeCoupon(userKey, countKey, String.valueOf(coupon.totalQuantity()), String.valueOf(ttlSeconds));
+    }
+
     private long getTimeToLive() {
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         LocalDateTime endOfDay = now.toLocalDate().atTime(LocalTime.MAX);
@@ -20,17 +20,33 @@ import java.time.format.DateTimeFormatter;
 public class CouponScheduler {
 
     private final CouponRepository couponRepository;
+    private final CouponMetaCache couponMetaCache;
+    private final CouponExecutor couponExecutor;
 
     @Scheduled(cron = "0 0 9 * * ?")
     public void createTodayCoupon() {
         int code = generateTodayCode();
-        if (couponRepository.existsById(code)) return;
+        // 이미 생성된 쿠폰이면 메타데이터만 다시 적재 (재시작 등)
+        Coupon existing = couponRepository.findByCouponCode(code).orElse(null);
+        if (existing != null) {
+            prepareIssue(existing);
+            return;
+        }
 
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         LocalDateTime endOfDay = now.withHour(23).withMinute(59).withSecond(59);
 
-        Coupon coupon = Coupon.create(code, CouponPolicy.DAILY_COUPON_QUANTITY, CouponPolicy.DAILY_COUPON_DISCOUNT, now, endOfDay);
+        Coupon coupon = Coupon.create(code, CouponPolicy.DAILY_COUPON_QUANTITY, CouponPolicy.DAILY_COUPON_DISCOUNT,
+                CouponPolicy.DAILY_COUPON_SHARD_COUNT, now, endOfDay);
         couponRepository.save(coupon);
+
+        prepareIssue(coupon);
+    }
+
+    // 10시 발급 시작 전에 발급 경로가 사용할 메타데이터와 샤드 재고를 미리 적재
+    private void prepareIssue(Coupon coupon) {
+        couponMetaCache.preload(coupon);
+        couponExecutor.initializeShardStock(couponMetaCache.get(coupon.getCouponCode()));
     }
 
     private int generateTodayCode() {
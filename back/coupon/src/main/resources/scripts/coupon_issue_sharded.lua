@@ -0,0 +1,18 @@
+-- KEYS[1] : 사용자 발급 키 (홈 샤드 해시태그)
+-- KEYS[2] : 홈 샤드 잔여 재고 키
+-- ARGV[1] : 사용자 발급 키 TTL
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return -1
+end
+
+local stock = tonumber(redis.call('GET', KEYS[2])) or 0
+if stock <= 0 then
+    return 0
+end
+
+redis.call('DECR', KEYS[2])
+
+local ttl = tonumber(ARGV[1]) or 86400
+redis.call('SET', KEYS[1], '1', 'EX', ttl)
+
+return 1
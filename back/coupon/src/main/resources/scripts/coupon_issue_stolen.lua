@@ -0,0 +1,21 @@
+-- KEYS[1] : 사용자 발급 키 (홈 샤드 해시태그)
+-- KEYS[2] : 홈 샤드 잔여 재고 키
+-- ARGV[1] : 다른 샤드에서 빌려온 수량
+-- ARGV[2] : 사용자 발급 키 TTL
+-- 빌려온 수량 중 1개를 사용자에게 발급하고 나머지는 홈 샤드에 적립
+-- 이미 발급된 사용자면 빌려온 수량 전부를 홈 샤드에 적립 (재고 유실 없음)
+local taken = tonumber(ARGV[1]) or 0
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('INCRBY', KEYS[2], taken)
+    return -1
+end
+
+if taken > 1 then
+    redis.call('INCRBY', KEYS[2], taken - 1)
+end
+
+local ttl = tonumber(ARGV[2]) or 86400
+redis.call('SET', KEYS[1], '1', 'EX', ttl)
+
+return 1
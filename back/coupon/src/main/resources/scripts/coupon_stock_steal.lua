@@ -0,0 +1,11 @@
+-- KEYS[1] : 재고를 빌려올 샤드의 잔여 재고 키
+-- 남은 재고의 절반(최소 1)을 차감하고 차감한 수량을 반환, 재고가 없으면 0
+local stock = tonumber(redis.call('GET', KEYS[1])) or 0
+if stock <= 0 then
+    return 0
+end
+
+local take = math.max(1, math.floor(stock / 2))
+redis.call('DECRBY', KEYS[1], take)
+
+return take
@@ -0,0 +1,132 @@
+package com.coupon.service;
+
+import com.coupon.dto.CouponMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 샤드 재고 발급(coupon_issue_sharded / coupon_stock_steal / coupon_issue_stolen) 동시성 테스트
+ * - 재고보다 많은 사용자가 동시에(같은 사용자는 중복으로) 발급을 요청해도 발급 수가 총 수량을 넘지 않고,
+ *   발급 수 + 남은 샤드 재고가 총 수량과 같아 빌려온 재고가 유실되지 않는지 확인합니다.
+ * - 실제 Redis 가 필요하며 (-Dredis.host, -Dredis.port, 기본 localhost:6379) 연결할 수 없으면 건너뜁니다.
+ */
+class CouponExecutorConcurrencyTest {
+
+    private static final int TOTAL_QUANTITY = 100;
+    private static final int SHARD_COUNT = 4;
+    private static final int USERS = 1_000;
+    private static final int REQUESTS_PER_USER = 2;
+    private static final int THREADS = 64;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private CouponExecutor couponExecutor;
+    private CouponMeta coupon;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        assumeTrue(isRedisAvailable(), "Redis 에 연결할 수 없어 테스트를 건너뜁니다.");
+
+        // RedisConfig 와 같은 문자열 직렬화 (스크립트가 재고를 tonumber 로 읽음)
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        couponExecutor = new CouponExecutor(redisTemplate);
+
+        // 다른 테스트/로컬 데이터와 겹치지 않는 쿠폰 코드
+        int couponCode = ThreadLocalRandom.current().nextInt(900_000_000, 1_000_000_000);
+        LocalDateTime now = LocalDateTime.now();
+        coupon = new CouponMeta(couponCode, couponCode, TOTAL_QUANTITY, 1000, SHARD_COUNT, now.minusDays(1), now.plusDays(1));
+        couponExecutor.initializeShardStock(coupon);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            Set<String> keys = redisTemplate.keys("coupon:*{" + coupon.couponCode() + ":*");
+            if (keys != null && !keys.isEmpty()) redisTemplate.delete(keys);
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void issuedCountNeverExceedsStockUnderContention() throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int request = 0; request < USERS * REQUESTS_PER_USER; request++) {
+                int userId = request % USERS;
+                futures.add(pool.submit(() -> {
+                    startGate.await();
+                    long result = couponExecutor.executeShardedCoupon(userId, coupon, "600");
+                    if (result == 1) issued.incrementAndGet();
+                    else if (result == -1) duplicated.incrementAndGet();
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int remaining = 0;
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Object stock = redisTemplate.opsForValue().get("coupon:stock:{" + coupon.couponCode() + ":" + shard + "}");
+            remaining += Integer.parseInt((String) stock);
+        }
+        Set<String> issuedKeys = redisTemplate.keys("coupon:issued:{" + coupon.couponCode() + ":*");
+
+        assertThat(issued.get()).isLessThanOrEqualTo(TOTAL_QUANTITY);
+        assertThat(remaining).isGreaterThanOrEqualTo(0);
+        assertThat(issued.get() + remaining).isEqualTo(TOTAL_QUANTITY);
+        assertThat(issuedKeys).hasSize(issued.get());
+        // 사용자당 2번 요청이므로 중복 응답은 발급된 사용자 수를 넘을 수 없음
+        assertThat(duplicated.get()).isLessThanOrEqualTo(issued.get());
+    }
+
+    private boolean isRedisAvailable() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.coupon.service;
+
+import com.coupon.dto.CouponMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.coupon.entity.constants.CouponPolicy.DAILY_COUPON_QUANTITY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 쿠폰 발급 게이트(Lua) 부하 테스트
+ * - 서로 다른 사용자 50,000명(-Dcoupon.load.users)이 동시에 발급을 요청해도 발급 수가 총 수량을 넘지 않고 (단일 카운터는 정확히 총 수량)
+ *   사용자당 한 번만 발급되는지 확인하며, 처리량과 지연 분위수를 로그로 남깁니다. (단일 카운터 / 샤드 재고 경로)
+ * - Redis 재시작/SCRIPT FLUSH 로 스크립트 캐시가 비어도 EVALSHA 의 NOSCRIPT 를 EVAL 로 재적재해 발급이 이어지는지 확인합니다.
+ *   (SCRIPT FLUSH 는 Redis 전체 스크립트 캐시를 비우므로 테스트 전용 Redis 에서 실행)
+ * - 실제 Redis 가 필요하며 (-Dredis.host, -Dredis.port, 기본 localhost:6379) 연결할 수 없으면 건너뜁니다.
+ */
+class CouponIssueLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueLoadTest.class);
+
+    private static final int USERS = Integer.getInteger("coupon.load.users", 50_000);
+    private static final int THREADS = Integer.getInteger("coupon.load.threads", 256);
+    private static final int SHARD_COUNT = 8;
+    private static final String TTL_SECONDS = "600";
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private CouponExecutor couponExecutor;
+    private int couponCode;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("redis.host", "localhost"),
+                Integer.getInteger("redis.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        assumeTrue(isRedisAvailable(), "Redis 에 연결할 수 없어 테스트를 건너뜁니다.");
+
+        // RedisConfig 와 같은 문자열 직렬화 (스크립트가 수량/재고를 tonumber 로 읽음)
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        couponExecutor = new CouponExecutor(redisTemplate);
+
+        // 다른 테스트/로컬 데이터와 겹치지 않는 쿠폰 코드
+        couponCode = ThreadLocalRandom.current().nextInt(900_000_000, 1_000_000_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            deleteKeys("coupon:issued:*:" + couponCode);
+            deleteKeys("coupon:count:" + couponCode);
+            deleteKeys("coupon:*{" + couponCode + ":*");
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void singleCounterIssuesExactlyTotalQuantityUnderLoad() throws Exception {
+        String countKey = countKey();
+        String quantity = String.valueOf(DAILY_COUPON_QUANTITY);
+
+        LoadResult result = runLoad(userId -> couponExecutor.executeCoupon(userKey(userId), countKey, quantity, TTL_SECONDS));
+
+        assertThat(result.issued()).isEqualTo(DAILY_COUPON_QUANTITY);
+        assertThat(result.outOfStock()).isEqualTo(USERS - DAILY_COUPON_QUANTITY);
+        assertThat(result.duplicated()).isZero();
+        assertThat(redisTemplate.opsForValue().get(countKey)).isEqualTo(quantity);
+        assertThat(redisTemplate.keys("coupon:issued:*:" + couponCode)).hasSize(DAILY_COUPON_QUANTITY);
+    }
+
+    @Test
+    void shardedStockIssuesExactlyTotalQuantityUnderLoad() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        CouponMeta coupon = new CouponMeta(couponCode, couponCode, DAILY_COUPON_QUANTITY, 1000, SHARD_COUNT,
+                now.minusDays(1), now.plusDays(1));
+        couponExecutor.initializeShardStock(coupon);
+
+        LoadResult result = runLoad(userId -> couponExecutor.executeShardedCoupon(userId, coupon, TTL_SECONDS));
+
+        int remaining = 0;
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Object stock = redisTemplate.opsForValue().get("coupon:stock:{" + couponCode + ":" + shard + "}");
+            remaining += Integer.parseInt((String) stock);
+        }
+        // 빌려온 재고가 적립되기 전에 다른 요청이 소진으로 판단할 수는 있지만, 총 수량을 넘거나 유실되지는 않음
+        assertThat(result.duplicated()).isZero();
+        assertThat(result.issued()).isLessThanOrEqualTo(DAILY_COUPON_QUANTITY);
+        assertThat(result.issued() + remaining).isEqualTo(DAILY_COUPON_QUANTITY);
+        assertThat(redisTemplate.keys("coupon:issued:{" + couponCode + ":*")).hasSize(result.issued());
+    }
+
+    @Test
+    void issueReloadsScriptAfterScriptFlush() throws Exception {
+        String countKey = countKey();
+        String quantity = String.valueOf(DAILY_COUPON_QUANTITY);
+        String sha = scriptSha("scripts/coupon_issue.lua");
+
+        assertThat(couponExecutor.executeCoupon(userKey(1), countKey, quantity, TTL_SECONDS)).isEqualTo(1);
+        assertThat(scriptExists(sha)).isTrue();
+
+        // 재시작/장애 조치와 같이 스크립트 캐시가 비워진 상태 (다음 EVALSHA 는 NOSCRIPT)
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+        assertThat(scriptExists(sha)).isFalse();
+
+        assertThat(couponExecutor.executeCoupon(userKey(2), countKey, quantity, TTL_SECONDS)).isEqualTo(1);
+        assertThat(couponExecutor.executeCoupon(userKey(2), countKey, quantity, TTL_SECONDS)).isEqualTo(-1);
+        assertThat(scriptExists(sha)).isTrue();
+        assertThat(redisTemplate.opsForValue().get(countKey)).isEqualTo("2");
+
+        // 재적재 후에는 동시 요청도 EVALSHA 로 처리
+        LoadResult result = runLoad(userId -> couponExecutor.executeCoupon(userKey(userId + 10), countKey, quantity, TTL_SECONDS));
+        assertThat(result.issued()).isEqualTo(DAILY_COUPON_QUANTITY - 2);
+    }
+
+    private LoadResult runLoad(IssueCall call) throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        long[] latencies = new long[USERS];
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>(USERS);
+        long startedAt;
+        try {
+            for (int userId = 0; userId < USERS; userId++) {
+                int user = userId;
+                futures.add(pool.submit(() -> {
+                    startGate.await();
+                    long requestStartedAt = System.nanoTime();
+                    long result = call.issue(user);
+                    latencies[user] = System.nanoTime() - requestStartedAt;
+                    if (result == 1) issued.incrementAndGet();
+                    else if (result == 0) outOfStock.incrementAndGet();
+                    else if (result == -1) duplicated.incrementAndGet();
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        log.info("쿠폰 발급 부하 - 요청: {}, 스레드: {}, 처리량: {}/s, p50: {}us, p99: {}us, max: {}us",
+                USERS, THREADS, USERS * 1_000_000_000L / Math.max(elapsedNanos, 1),
+                percentileMicros(latencies, 0.50), percentileMicros(latencies, 0.99), latencies[USERS - 1] / 1_000);
+        return new LoadResult(issued.get(), outOfStock.get(), duplicated.get());
+    }
+
+    private String countKey() {
+        return "coupon:count:" + couponCode;
+    }
+
+    // CouponRedisService 와 같은 키 형식
+    private String userKey(int userId) {
+        return "coupon:issued:" + userId + ":" + couponCode;
+    }
+
+    private static long percentileMicros(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(sorted.length * percentile) - 1)] / 1_000;
+    }
+
+    private static String scriptSha(String path) throws Exception {
+        String script = new String(new ClassPathResource(path).getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        return new DefaultRedisScript<>(script, Long.class).getSha1();
+    }
+
+    private boolean scriptExists(String sha) {
+        List<Boolean> exists = redisTemplate.execute((RedisCallback<List<Boolean>>) connection ->
+                connection.scriptingCommands().scriptExists(sha));
+        return exists != null && exists.get(0);
+    }
+
+    private void deleteKeys(String pattern) {
+        Set<String> keys = redisTemplate.keys(pattern);
+        if (keys != null && !keys.isEmpty()) redisTemplate.delete(keys);
+    }
+
+    private boolean isRedisAvailable() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.ping();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IssueCall {
+        long issue(int userId);
+    }
+
+    private record LoadResult(int issued, int outOfStock, int duplicated) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.ssafy.funding.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 펀딩 2단 캐시 (L1 Caffeine + L2 Redis)
+ * - L1 에는 역직렬화가 끝난 DTO/엔티티를 그대로 보관하고, L1 미스 시 Redis → DB 순으로 조회합니다.
+ * - 같은 키에 대한 동시 미스는 Caffeine 의 compute 로 한 번만 적재됩니다. (single-flight)
+ * - 키는 태그(카테고리/정렬/펀딩 ID)별 Set 에 함께 등록되어 변경 이벤트 시 태그 단위로 삭제되며,
+ *   삭제된 키는 Redis pub/sub 으로 다른 펀딩 인스턴스의 L1 에서도 제거됩니다.
+ * - 무효화 시 태그마다 세대(generation) 번호를 올려 두고, 적재 시작 전 세대 이후에 무효화된 태그가 있으면
+ *   loader 결과를 Redis 에도 L1 에도 남기지 않아 무효화 도중 실행 중이던 loader 가 이전 값을 다시 넣지 못하게 합니다.
+ *   (처음 적재 중인 키는 아직 태그 Set 에 없어 무효화 대상 키로 잡히지 않으므로 L1 도 직접 걸러야 함)
+ */
+@Slf4j
+@Component
+public class FundingCache {
+
+    public static final String INVALIDATION_CHANNEL = "funding-cache-invalidation";
+    public static final String ALL_CATEGORIES = "ALL";
+    private static final String TAG_PREFIX = "funding-tag::";
+    private static final String KEY_DELIMITER = "\n";
+    private static final String GENERATION_KEY = "funding-cache::generation";
+    private static final String TAG_GENERATION_PREFIX = "funding-tag-gen::";
+
+    // KEYS = [캐시 키, 태그1, 태그1 세대, 태그2, 태그2 세대, ...], ARGV = [json, 키 TTL(초), 적재 시작 세대, 태그 TTL(초)]
+    // 적재 시작 이후 무효화된 태그가 하나라도 있으면 쓰지 않음
+    private static final RedisScript<Long> PUT_IF_FRESH_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS, 2 do
+                local gen = redis.call('GET', KEYS[i + 1])
+                if gen and tonumber(gen) > tonumber(ARGV[3]) then return 0 end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            for i = 2, #KEYS, 2 do
+                redis.call('SADD', KEYS[i], KEYS[1])
+                redis.call('EXPIRE', KEYS[i], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Object> nearCache;
+    private final Duration redisTtl;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Timer loadTimer;
+
+    public FundingCache(RedisTemplate<String, String> redisTemplate,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${funding.cache.listing-ttl-minutes:30}") long redisTtlMinutes,
+                        @Value("${funding.cache.near.max-size:10000}") long nearMaxSize,
+                        @Value("${funding.cache.near.ttl-seconds:60}") long nearTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofMinutes(redisTtlMinutes);
+
+        // pub/sub 유실에 대비해 L1 은 짧은 TTL 을 안전망으로 둠
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "funding.near-cache");
+
+        this.redisHitCounter = Counter.builder("funding.cache.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMissCounter = Counter.builder("funding.cache.redis").tag("result", "miss").register(meterRegistry);
+        this.loadTimer = Timer.builder("funding.cache.load").register(meterRegistry);
+    }
+
+    // 펀딩 페이지 목록 태그 : 정렬 + 카테고리 (전체 조회는 ALL)
+    public static String listingTag(String sort, String category) {
+        return TAG_PREFIX + "listing::" + sort + "::" + category;
+    }
+
+    // 베스트, 마감임박 목록 태그 : 정렬 + 토픽
+    public static String specialTag(String sort, String topic) {
+        return TAG_PREFIX + "special::" + sort + "::" + topic;
+    }
+
+    // 해당 펀딩이 포함된 목록 및 상세 태그
+    public static String fundingTag(int fundingId) {
+        return TAG_PREFIX + "funding::" + fundingId;
+    }
+
+    public static String detailKey(int fundingId) {
+        return "funding-detail::" + fundingId;
+    }
+
+    private static String generationKey(String tag) {
+        return TAG_GENERATION_PREFIX + tag;
+    }
+
+    /**
+     * L1 → L2(Redis) → loader 순으로 조회합니다.
+     * loader 결과가 null 이면 캐싱하지 않습니다.
+     *
+     * @param tagsOf 적재된 값으로부터 무효화 태그를 만드는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, TypeReference<T> type, Supplier<T> loader, Function<T, Collection<String>> tagsOf) {
+        // compute 는 호출 스레드에서 실행되므로 적재 결과가 이미 무효화됐는지 여기서 전달받음
+        boolean[] stale = new boolean[1];
+        T value = (T) nearCache.get(key, k -> loadFromRedisOrSource(k, type, loader, tagsOf, stale));
+        // 그 사이 더 새 값이 들어왔을 수 있으므로 방금 적재한 값일 때만 제거
+        if (stale[0] && value != null) nearCache.asMap().remove(key, value);
+        return value;
+    }
+
+    private <T> T loadFromRedisOrSource(String key, TypeReference<T> type, Supplier<T> loader,
+                                        Function<T, Collection<String>> tagsOf, boolean[] stale) {
+        String cachedJson = redisTemplate.opsForValue().get(key);
+        if (cachedJson != null) {
+            try {
+                T cached = objectMapper.readValue(cachedJson, type);
+                redisHitCounter.increment();
+                return cached;
+            } catch (JsonProcessingException e) {
+                log.warn("캐시 역직렬화 실패 key={}", key, e);
+            }
+        }
+        redisMissCounter.increment();
+
+        // loader 실행 전에 세대를 읽어야 그 사이의 무효화를 감지할 수 있음
+        String startGeneration = redisTemplate.opsForValue().get(GENERATION_KEY);
+        T loaded = loadTimer.record(loader);
+        if (loaded != null) {
+            stale[0] = !putRedis(key, loaded, tagsOf.apply(loaded), startGeneration == null ? "0" : startGeneration);
+        }
+        return loaded;
+    }
+
+    // 적재 시작 이후 무효화된 태그가 있어 저장하지 않았으면 false
+    private boolean putRedis(String key, Object value, Collection<String> tags, String startGeneration) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 직렬화 실패 key={}", key, e);
+            return true;
+        }
+
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        for (String tag : tags) {
+            keys.add(tag);
+            keys.add(generationKey(tag));
+        }
+        // 태그 Set 은 캐시 키보다 오래 살아야 무효화 누락이 없음
+        Long written = redisTemplate.execute(PUT_IF_FRESH_SCRIPT, keys, json,
+                String.valueOf(redisTtl.toSeconds()), startGeneration,
+                String.valueOf(redisTtl.multipliedBy(2).toSeconds()));
+        if (written != null && written == 0) {
+            log.debug("적재 중 무효화되어 캐시 저장 생략 key={}", key);
+            return false;
+        }
+        return true;
+    }
+
+    // 태그에 묶인 키와 태그 자체를 삭제하고, 다른 인스턴스에도 L1 무효화를 전파
+    public void evictTags(Collection<String> tags) {
+        // 키를 모으기 전에 세대를 먼저 올려야, 그 이후의 적재는 막히고 그 이전의 적재는 아래에서 삭제됨
+        Long generation = redisTemplate.opsForValue().increment(GENERATION_KEY);
+        for (String tag : tags) {
+            redisTemplate.opsForValue().set(generationKey(tag), String.valueOf(generation), redisTtl.multipliedBy(2));
+        }
+
+        Set<String> keys = new HashSet<>();
+        for (String tag : tags) {
+            Set<String> members = redisTemplate.opsForSet().members(tag);
+            if (members != null) keys.addAll(members);
+        }
+
+        Set<String> toDelete = new HashSet<>(keys);
+        toDelete.addAll(tags);
+        redisTemplate.delete(toDelete);
+
+        if (keys.isEmpty()) return;
+        nearCache.invalidateAll(keys);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(KEY_DELIMITER, keys));
+        log.debug("펀딩 캐시 무효화 tags={} keys={}", tags.size(), keys.size());
+    }
+
+    // pub/sub 으로 받은 키를 L1 에서만 제거 (Redis 는 발행한 인스턴스가 이미 삭제함)
+    public void invalidateLocal(String message) {
+        nearCache.invalidateAll(Arrays.asList(message.split(KEY_DELIMITER)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.ssafy.funding.cache;
+
+import com.ssafy.funding.entity.enums.Category;
+import com.ssafy.funding.event.FundingChangedEvent;
+import com.ssafy.funding.event.FundingEndedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 펀딩 변경 이벤트 → 목록 캐시 태그 무효화
+ * - 트랜잭션 커밋 이후에만 삭제하여, 롤백된 변경이 캐시를 비우거나 커밋 전 값이 다시 캐싱되는 것을 막습니다.
+ * - 모금액 변경은 주문마다 비우지 않고 모아 두었다가 주기적으로 한 번에, 인기순(popular) 목록과 해당 펀딩이 실린 목록만 비웁니다.
+ *   (인기 목록은 그 주기 동안 캐시된 값이 유지되며, 최신/오래된순 목록은 그대로 둡니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class FundingCacheInvalidator {
+
+    private static final List<String> LISTING_SORTS = List.of("latest", "oldest", "popular");
+    private static final List<String> SPECIAL_SORTS = List.of("none", "latest", "oldest", "popular");
+    private static final List<String> SPECIAL_TOPICS = List.of("soon", "best");
+
+    private final FundingCache fundingCache;
+
+    // 다음 주기에 무효화할 모금액 변경 펀딩 ID
+    private final Set<Integer> pendingAmountChanges = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFundingChanged(FundingChangedEvent event) {
+        if (event.getType() == FundingChangedEvent.ChangeType.AMOUNT_CHANGED) {
+            pendingAmountChanges.add(event.getFundingId());
+            return;
+        }
+        fundingCache.evictTags(resolveTags(event));
+    }
+
+    // 모금액 변경 무효화 : 주기 동안 들어온 주문을 모아 인기순 목록과 변경된 펀딩 태그를 한 번만 비움
+    @Scheduled(fixedDelayString = "${funding.cache.amount-evict-interval-ms:5000}")
+    public void flushAmountChanges() {
+        if (pendingAmountChanges.isEmpty()) return;
+
+        Set<String> tags = new HashSet<>();
+        Iterator<Integer> iterator = pendingAmountChanges.iterator();
+        while (iterator.hasNext()) {
+            tags.add(FundingCache.fundingTag(iterator.next()));
+            iterator.remove();
+        }
+        // 주문 경로에서 카테고리 조회를 피하기 위해 인기순 목록은 카테고리 구분 없이 비움
+        tags.add(FundingCache.listingTag("popular", FundingCache.ALL_CATEGORIES));
+        for (Category category : Category.values()) {
+            tags.add(FundingCache.listingTag("popular", category.name()));
+        }
+        for (String topic : SPECIAL_TOPICS) {
+            tags.add(FundingCache.specialTag("popular", topic));
+        }
+        fundingCache.evictTags(tags);
+    }
+
+    // 종료 전환 배치 : 목록 구성이 바뀌므로 전체/해당 카테고리 목록과 특별 목록, 각 펀딩 태그를 한 번에 비움
+    @TransactionalEventListener
+    public void onFundingEnded(FundingEndedEvent event) {
+        Set<String> tags = new HashSet<>();
+        Set<Category> categories = new HashSet<>();
+        for (FundingEndedEvent.EndedFunding funding : event.getFundings()) {
+            tags.add(FundingCache.fundingTag(funding.fundingId()));
+            if (funding.category() != null) categories.add(funding.category());
+        }
+        for (String sort : LISTING_SORTS) {
+            tags.add(FundingCache.listingTag(sort, FundingCache.ALL_CATEGORIES));
+            categories.forEach(category -> tags.add(FundingCache.listingTag(sort, category.name())));
+        }
+        for (String sort : SPECIAL_SORTS) {
+            for (String topic : SPECIAL_TOPICS) {
+                tags.add(FundingCache.specialTag(sort, topic));
+            }
+        }
+        fundingCache.evictTags(tags);
+    }
+
+    private List<String> resolveTags(FundingChangedEvent event) {
+        List<String> tags = new ArrayList<>();
+        tags.add(FundingCache.fundingTag(event.getFundingId()));
+
+        switch (event.getType()) {
+            case CREATED, UPDATED, DELETED -> {
+                // 목록 구성 자체가 바뀌므로 해당 카테고리와 전체 목록의 모든 정렬, 특별 목록 전부
+                for (String sort : LISTING_SORTS) {
+                    tags.add(FundingCache.listingTag(sort, FundingCache.ALL_CATEGORIES));
+                    for (Category category : event.getCategories()) {
+                        tags.add(FundingCache.listingTag(sort, category.name()));
+                    }
+                }
+                for (String sort : SPECIAL_SORTS) {
+                    for (String topic : SPECIAL_TOPICS) {
+                        tags.add(FundingCache.specialTag(sort, topic));
+                    }
+                }
+            }
+            case AMOUNT_CHANGED -> {
+                // flushAmountChanges 에서 모아서 처리
+            }
+            case WISH_CHANGED -> {
+                // 찜 수는 베스트 토픽의 기본 정렬(none)에만 영향
+                tags.add(FundingCache.specialTag("none", "best"));
+            }
+        }
+        return tags;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.funding.client;
 
+import com.ssafy.funding.dto.order.response.FundingOrderStatsResponseDto;
 import com.ssafy.funding.dto.seller.request.GetSellerTodayOrderCountRequestDto;
 import com.ssafy.funding.dto.seller.request.GetSellerTodayOrderTopThreeListRequestDto;
 import com.ssafy.funding.dto.seller.response.GetSellerMonthAmountStatisticsResponseDto;
@@ -21,4 +22,6 @@ public interface OrderClient {
     List<Integer> getSellerBrandStatistics(@RequestBody List<Integer> fundingIdList);
     @PostMapping("/api/order/seller/today-order/list")
     List<GetSellerTodayOrderTopThreeIdAndMoneyResponseDto> getSellerTodayOrderTopThree(@RequestBody List<Integer> fundingIdList);
+    @PostMapping("/api/order/funding-stats")
+    List<FundingOrderStatsResponseDto> getFundingOrderStats(@RequestBody List<Integer> fundingIdList);
 }
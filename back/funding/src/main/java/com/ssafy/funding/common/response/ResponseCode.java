@@ -19,6 +19,16 @@ public enum ResponseCode {
     FUNDING_NOT_ONGOING(204,HttpStatus.NO_CONTENT ,"진행 중인 펀딩 이 없습니다."),
     FUNDING_NOT_SEARCH(204,HttpStatus.NO_CONTENT ,"키워드와 일치하거나 진행 중인 펀딩 이 없습니다."),
 
+    // 검색 색인 관련
+    START_REINDEX(successCode(), HttpStatus.ACCEPTED, "검색 색인 재구축을 시작했습니다."),
+    GET_REINDEX_REPORT(successCode(), HttpStatus.OK, "검색 색인 재구축 결과를 조회했습니다."),
+    REINDEX_IN_PROGRESS(409, HttpStatus.CONFLICT, "검색 색인 재구축이 이미 진행 중입니다."),
+    REBUILD_LEADERBOARD(successCode(), HttpStatus.OK, "펀딩 랭킹을 재구성했습니다."),
+    BACKFILL_WISH_COUNT(successCode(), HttpStatus.OK, "찜 수를 백필했습니다."),
+    RECONCILE_FUNDING_STATS(successCode(), HttpStatus.OK, "펀딩 집계를 보정했습니다."),
+    FUNDING_STATS_RECONCILE_IN_PROGRESS(409, HttpStatus.CONFLICT, "펀딩 집계 보정이 이미 진행 중입니다."),
+    LEADERBOARD_REBUILD_IN_PROGRESS(409, HttpStatus.CONFLICT, "펀딩 랭킹 재구성이 이미 진행 중입니다."),
+
     // 파일 관련
     FAIL_FILE_UPLOAD(500, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류로 인해 파일 업로드가 실패하였습니다."),
     FAIL_FILE_DELETE(500, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류로 인해 파일 삭제가 실패하였습니다."),
@@ -34,6 +44,7 @@ public enum ResponseCode {
     REVIEW_NOT_ALLOWED(403, HttpStatus.FORBIDDEN, "해당 펀딩 상태에서는 리뷰를 작성할 수 없습니다."),
     REVIEW_ALREADY_EXISTS(400, HttpStatus.BAD_REQUEST, "해당 유저는 이미 이 펀딩에 리뷰를 작성했습니다."),
     FORBIDDEN_REVIEW_ACCESS(403, HttpStatus.FORBIDDEN, "해당 리뷰에 대한 수정/삭제 권한이 없습니다."),
+    INVALID_REVIEW_RATING(400, HttpStatus.BAD_REQUEST, "평점은 1점에서 5점 사이여야 합니다."),
 
     // 찜 관련
     CREATE_WISHLIST(successCode(), HttpStatus.OK, "위시리스트에 추가되었습니다."),
@@ -46,6 +57,8 @@ public enum ResponseCode {
     // 일반 오류
     BINDING_ERROR(400, HttpStatus.BAD_REQUEST, "입력값 중 검증에 실패한 값이 있습니다."),
     BAD_REQUEST(400, HttpStatus.BAD_REQUEST, "올바르지 않은 요청입니다."),
+    INVALID_CURSOR(400, HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    SEARCH_UNAVAILABLE(503, HttpStatus.SERVICE_UNAVAILABLE, "검색 서비스를 일시적으로 사용할 수 없습니다."),
     DATABASE_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 오류가 발생했습니다."),
     BAD_SQL_ERROR(400, HttpStatus.BAD_REQUEST, "SQL 문법 오류가 발생했습니다."),
     DATA_NOT_FOUND(404, HttpStatus.NOT_FOUND, "조회된 데이터가 없습니다.");
@@ -0,0 +1,39 @@
+package com.ssafy.funding.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class CursorUtil {
+    private static final int QUERY_HASH_BYTES = 9;
+
+    /**
+     * 커서를 발급한 조회 조건(정렬/검색어/카테고리 등)의 짧은 해시
+     * - 커서에 담아 두었다가 다른 조건의 요청에 재사용되면 거부하는 데 사용합니다.
+     * - 목록 값은 순서와 관계없이 같은 조건으로 봅니다. (IN 조건)
+     */
+    public static String queryHash(Object... parts) {
+        String canonical = Arrays.stream(parts)
+                .map(CursorUtil::canonical)
+                .collect(Collectors.joining("\u0000"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, QUERY_HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String canonical(Object part) {
+        if (part == null) return "";
+        if (part instanceof Collection<?> values) {
+            return values.stream().map(String::valueOf).sorted().collect(Collectors.joining("\u0001", "[", "]"));
+        }
+        return Objects.toString(part);
+    }
+}
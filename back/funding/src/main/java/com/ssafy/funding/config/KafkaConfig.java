@@ -1,21 +1,36 @@
 package com.ssafy.funding.config;
 
 import com.ssafy.funding.event.FundingCompletedEvent;
+import com.ssafy.funding.event.OrderCreatedEvent;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Kafka 설정
  * - FundingCompletedEvent 전송을 위한 Kafka 프로듀서 및 토픽 설정
+ * - order 서비스의 OrderCreatedEvent 수신을 위한 컨슈머 설정
  */
 @EnableKafka
 @Configuration
@@ -43,4 +58,58 @@ public class KafkaConfig {
         // 토픽: funding-completed, 파티션 1, 복제 인수 1
         return new NewTopic("funding-completed", 1, (short) 1);
     }
+
+    /**
+     * DLT 전송용 템플릿
+     * - 역직렬화에 실패한 레코드는 원본 byte[] 그대로, 처리에 실패한 레코드는 역직렬화된 이벤트를 JSON 으로 보냅니다.
+     *   (JsonSerializer 로 byte[] 를 보내면 base64 문자열로 바뀌어 원본을 복구할 수 없음)
+     */
+    @Bean
+    public KafkaTemplate<Object, Object> deadLetterKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps,
+                deadLetterSerializer(new StringSerializer()), deadLetterSerializer(new JsonSerializer<>())));
+    }
+
+    // byte[] 를 먼저 확인하고, 나머지 타입은 주어진 직렬화기로 처리
+    private static Serializer<Object> deadLetterSerializer(Serializer<?> fallback) {
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(Object.class, fallback);
+        return new DelegatingByTypeSerializer(delegates, true);
+    }
+
+    @Bean
+    public ConsumerFactory<String, OrderCreatedEvent> orderCreatedConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        // 새 컨슈머 그룹은 토픽 처음부터 읽어 배포 전에 쌓인 주문도 반영
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, "com.ssafy.funding.event.OrderCreatedEvent");
+        // order 서비스 FQCN 을 funding 내부 클래스에 매핑
+        props.put(JsonDeserializer.TYPE_MAPPINGS, "com.order.event.OrderCreatedEvent:com.ssafy.funding.event.OrderCreatedEvent");
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> orderCreatedListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderCreatedConsumerFactory());
+        // 처리 실패 시 1초 간격으로 3번 재시도 후 order-created.DLT 로 보내 유실 없이 재처리할 수 있게 함
+        // (DLT 레코드 헤더에 원래 컨슈머 그룹이 남으므로 금액/통계 중 어느 반영이 실패했는지 구분 가능)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate(),
+                (record, ex) -> new TopicPartition(record.topic() + ".DLT", -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 3L)));
+        return factory;
+    }
 }
@@ -0,0 +1,28 @@
+package com.ssafy.funding.config;
+
+import com.ssafy.funding.cache.FundingCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 펀딩 캐시 무효화 pub/sub 설정
+ * - 다른 펀딩 인스턴스가 캐시를 비우면 이 인스턴스의 L1(Caffeine) 에서도 같은 키를 제거합니다.
+ */
+@Configuration
+public class RedisCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer fundingCacheListenerContainer(RedisConnectionFactory connectionFactory, FundingCache fundingCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> fundingCache.invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(FundingCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -1,18 +1,27 @@
 package com.ssafy.funding.controller;
 
+import com.ssafy.funding.common.exception.CustomException;
 import com.ssafy.funding.common.response.Response;
 import com.ssafy.funding.dto.funding.request.*;
+import com.ssafy.funding.dto.funding.response.CursorPageResponseDto;
+import com.ssafy.funding.dto.funding.response.FundingReindexReport;
 import com.ssafy.funding.dto.funding.response.FundingResponseDto;
 import com.ssafy.funding.dto.funding.response.FundingWishCountResponseDto;
 import com.ssafy.funding.dto.funding.response.GetFundingResponseDto;
 import com.ssafy.funding.dto.funding.response.MyFundingResponseDto;
 import com.ssafy.funding.dto.order.response.IsOngoingResponseDto;
+import com.ssafy.funding.dto.review.response.ReviewPageResponseDto;
 import com.ssafy.funding.dto.review.response.ReviewResponseDto;
 import com.ssafy.funding.dto.seller.SellerDetailResponseDto;
 import com.ssafy.funding.dto.seller.response.*;
 import com.ssafy.funding.elasticsearch.ElasticsearchService;
+import com.ssafy.funding.elasticsearch.FundingReindexJob;
+import com.ssafy.funding.leaderboard.FundingLeaderboard;
 import com.ssafy.funding.service.OrderService;
 import com.ssafy.funding.service.ProductService;
+import com.ssafy.funding.service.ReviewService;
+import com.ssafy.funding.service.impl.FundingStatsReconciler;
+import com.ssafy.funding.service.impl.WishCountReconciler;
 import jakarta.ws.rs.Path;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -32,7 +41,12 @@ public class FundingController {
 
     private final ProductService productService;
     private final OrderService orderService;
+    private final ReviewService reviewService;
     private final ElasticsearchService elasticsearchService;
+    private final FundingReindexJob fundingReindexJob;
+    private final FundingLeaderboard fundingLeaderboard;
+    private final WishCountReconciler wishCountReconciler;
+    private final FundingStatsReconciler fundingStatsReconciler;
 
     //내가 주문한 펀딩 프로젝트 조회
     @GetMapping("/my/funding")
@@ -105,25 +119,83 @@ public class FundingController {
         return fundingList;
     }
 
+    // 펀딩 페이지 펀딩 리스트 키셋(커서) 조회 - cursor 파라미터가 있으면 커서 모드 (첫 페이지는 빈 값)
+    @GetMapping(value = "/funding-page", params = "cursor")
+    CursorPageResponseDto<GetFundingResponseDto> getFundingPageListByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "categories" ,required = false) List<String> categories,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        return productService.getFundingPageListByCursor(sort, categories, cursor);
+    }
+
     //funding 서비스에게 키워드 검색으로 펀딩 리스트 데이터 요청
     @GetMapping("/search")
     List<GetFundingResponseDto> getSearchFundingList(
             @RequestParam(name = "sort") String sort,
             @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) String category,
             @RequestParam(name= "page") int page) {
-        List<GetFundingResponseDto> fundingList = productService.getSearchFundingList(sort ,keyword, page);
+        List<GetFundingResponseDto> fundingList = productService.getSearchFundingList(sort ,keyword, category, page);
         return fundingList;
     }
 
+    // 키워드 검색 search_after 커서 조회 - cursor 파라미터가 있으면 커서 모드 (첫 페이지는 빈 값)
+    @GetMapping(value = "/search", params = "cursor")
+    CursorPageResponseDto<GetFundingResponseDto> getSearchFundingListByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "keyword") String keyword,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        return productService.getSearchFundingListByCursor(sort, keyword, category, cursor);
+    }
+
     @GetMapping("/suggest")
     public List<String> getSearchSuggestions(@RequestParam(name = "prefix") String prefix) {
         try {
-            return elasticsearchService.advancedSuggestions(prefix);
+            return elasticsearchService.suggest(prefix);
         } catch (Exception e) {
             return Collections.emptyList();
         }
     }
 
+    // 검색 색인 무중단 재구축 시작 (백그라운드 실행)
+    @PostMapping("/search/reindex")
+    public ResponseEntity<?> startReindex() {
+        fundingReindexJob.start();
+        return new ResponseEntity<>(Response.create(START_REINDEX, null), START_REINDEX.getHttpStatus());
+    }
+
+    // 마지막 재구축 결과 조회
+    @GetMapping("/search/reindex")
+    public ResponseEntity<?> getReindexReport() {
+        FundingReindexReport report = fundingReindexJob.getLastReport();
+        if (report == null) throw new CustomException(DATA_NOT_FOUND);
+        return new ResponseEntity<>(Response.create(GET_REINDEX_REPORT, report), GET_REINDEX_REPORT.getHttpStatus());
+    }
+
+    // 펀딩 랭킹(Redis) MySQL 기준 재구성
+    @PostMapping("/leaderboard/rebuild")
+    public ResponseEntity<?> rebuildLeaderboard() {
+        int count = fundingLeaderboard.rebuild();
+        return new ResponseEntity<>(Response.create(REBUILD_LEADERBOARD, count), REBUILD_LEADERBOARD.getHttpStatus());
+    }
+
+    // 찜 수 컬럼 백필 (wishlist 집계 → funding.wish_count) 후 랭킹 재구성
+    @PostMapping("/wish-count/backfill")
+    public ResponseEntity<?> backfillWishCount() {
+        int updated = wishCountReconciler.backfill();
+        return new ResponseEntity<>(Response.create(BACKFILL_WISH_COUNT, updated), BACKFILL_WISH_COUNT.getHttpStatus());
+    }
+
+    // 펀딩 집계(funding_stats) 백필/보정 : review, wishlist, 주문 집계 → funding_stats
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<?> reconcileFundingStats() {
+        int chunks = fundingStatsReconciler.reconcile();
+        if (chunks < 0) throw new CustomException(FUNDING_STATS_RECONCILE_IN_PROGRESS);
+        return new ResponseEntity<>(Response.create(RECONCILE_FUNDING_STATS, chunks), RECONCILE_FUNDING_STATS.getHttpStatus());
+    }
+
     // funding 서비스에서 검색페이지에 배스트 펀딩, 마감임박, 오늘의 검색어 중 선택한 색션 펀딩 리스트 데이터 요청
     @GetMapping("/search/special")
     List<FundingWishCountResponseDto> getSearchSpecialFunding(
@@ -134,6 +206,15 @@ public class FundingController {
         return fundingList;
     }
 
+    // 베스트 펀딩, 마감임박 키셋(커서) 조회 - cursor 파라미터가 있으면 커서 모드 (첫 페이지는 빈 값)
+    @GetMapping(value = "/search/special", params = "cursor")
+    CursorPageResponseDto<FundingWishCountResponseDto> getSearchSpecialFundingByCursor(
+            @RequestParam(name = "sort") String sort,
+            @RequestParam(name = "topic") String topic,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        return productService.getSearchSpecialFundingByCursor(sort, topic, cursor);
+    }
+
     // 펀딩 프로젝트 상세 정보 요청
     @GetMapping("/detail/{fundingId}")
     GetFundingResponseDto getFundingDetail(@PathVariable int fundingId) {
@@ -148,6 +229,13 @@ public class FundingController {
         return reviewResponseDto;
     }
 
+    // 브랜드 만족도 키셋(커서) 조회 - 첫 페이지(빈 cursor)에 평점 요약/분포 포함
+    @GetMapping(value = "/review", params = "cursor")
+    ReviewPageResponseDto getFundingReviewByCursor(@RequestParam(name="sellerId") int sellerId,
+                                                   @RequestParam(name = "cursor", required = false) String cursor){
+        return reviewService.getReviewPageBySellerId(sellerId, cursor);
+    }
+
     // 판매자 상세정보 조회
     @GetMapping("/seller/detail/{sellerId}")
     SellerDetailResponseDto getSellerDetail(@PathVariable int sellerId){
@@ -244,8 +332,9 @@ public class FundingController {
         return productService.getExpectedSettlements(sellerId);
     }
 
+    // 이전 order 서비스 호환용 : 주문 반영은 order-created 이벤트 컨슈머(OrderAmountConsumer, OrderStatsConsumer)가 담당
     @PostMapping("/current/amount")
     void addCurrentAmount(@RequestBody AddCurrentAmountRequestDto addCurrentAmountRequestDto) {
-        productService.addCurrentAmount(addCurrentAmountRequestDto.getFundingId(),addCurrentAmountRequestDto.getAmount());
+        productService.addCurrentAmount(addCurrentAmountRequestDto.getFundingId(),addCurrentAmountRequestDto.getAmount(), addCurrentAmountRequestDto.isFirstOrder());
     }
 }
@@ -5,6 +5,7 @@ import com.ssafy.funding.common.response.ResponseCode;
 import com.ssafy.funding.dto.review.request.ReviewCreateRequestDto;
 import com.ssafy.funding.dto.review.request.ReviewUpdateRequestDto;
 import com.ssafy.funding.dto.review.response.ReviewDto;
+import com.ssafy.funding.dto.review.response.ReviewPageResponseDto;
 import com.ssafy.funding.dto.review.response.SingleReviewResponseDto;
 import com.ssafy.funding.dto.review.response.ReviewListResponseDto;
 import com.ssafy.funding.service.ReviewService;
@@ -47,6 +48,22 @@ public class ReviewController {
         return new ResponseEntity<>(Response.create(GET_REVIEW_LIST, result), GET_REVIEW_LIST.getHttpStatus());
     }
 
+    // 펀딩 리뷰 키셋(커서) 조회 - cursor 파라미터가 있으면 커서 모드 (첫 페이지는 빈 값, 요약 포함)
+    @GetMapping(value = "/funding/{fundingId}", params = "cursor")
+    public ResponseEntity<?> getReviewPageByFundingId(@PathVariable int fundingId,
+                                                      @RequestParam(name = "cursor", required = false) String cursor) {
+        ReviewPageResponseDto reviews = reviewService.getReviewPageByFundingId(fundingId, cursor);
+        return new ResponseEntity<>(Response.create(GET_REVIEW_LIST, reviews), GET_REVIEW_LIST.getHttpStatus());
+    }
+
+    // 판매자 리뷰 키셋(커서) 조회
+    @GetMapping(value = "/seller/{sellerId}", params = "cursor")
+    public ResponseEntity<?> getReviewPageBySeller(@PathVariable int sellerId,
+                                                   @RequestParam(name = "cursor", required = false) String cursor) {
+        ReviewPageResponseDto result = reviewService.getReviewPageBySellerId(sellerId, cursor);
+        return new ResponseEntity<>(Response.create(GET_REVIEW_LIST, result), GET_REVIEW_LIST.getHttpStatus());
+    }
+
     @PostMapping
     public ResponseEntity<?> createReview(
             @RequestHeader("X-User-Id") int userId,
@@ -1,6 +1,8 @@
 package com.ssafy.funding.document;
 
+import com.ssafy.funding.entity.Funding;
 import com.ssafy.funding.entity.enums.Category;
+import com.ssafy.funding.entity.enums.Status;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +14,7 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.InnerField;
 import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 
 import java.time.LocalDateTime;
@@ -21,18 +24,25 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(indexName = "funding_index")
+@Setting(settingPath = "elasticsearch/funding-settings.json")
 public class FundingDocument {
 
     @Id
+    @Field(type = FieldType.Integer)
     private Integer fundingId;
 
     private Integer sellerId;  // 판매자 ID
 
     // 멀티 필드를 사용해서 기본 Text와 정렬/집계용 Keyword 서브필드를 생성합니다.
+    // ngram 서브필드는 단어 중간부터 입력한 경우의 자동완성 보조용 (edge n-gram)
     @MultiField(
             mainField = @Field(type = FieldType.Text),
             otherFields = {
-                    @InnerField(suffix = "keyword", type = FieldType.Keyword)
+                    @InnerField(suffix = "keyword", type = FieldType.Keyword),
+                    @InnerField(suffix = "ngram", type = FieldType.Text,
+                            analyzer = "title_autocomplete", searchAnalyzer = "title_autocomplete_search"),
+                    // 한글 검색용 (cjk bigram : 띄어쓰기 없는 복합어의 부분 일치)
+                    @InnerField(suffix = "cjk", type = FieldType.Text, analyzer = "cjk")
             }
     )
     private String title;      // 제목
@@ -41,17 +51,30 @@ public class FundingDocument {
     @CompletionField(maxInputLength = 100)
     private String titleSuggest;
 
-    @Field(type = FieldType.Text)
+    @MultiField(
+            mainField = @Field(type = FieldType.Text),
+            otherFields = {
+                    @InnerField(suffix = "cjk", type = FieldType.Text, analyzer = "cjk")
+            }
+    )
     private String description; // 설명
 
     // 이미지 URL (JSON 문자열 또는 다른 방식으로 저장 가능)
     @Field(type = FieldType.Keyword)
     private String imageUrl;
 
+    // 시작 날짜 (최신순/오래된순 정렬)
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
+    private LocalDateTime startDate;
+
     // 종료 날짜
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
     private LocalDateTime endDate;
 
+    // 진행 상태 (예: ONGOING)
+    @Field(type = FieldType.Keyword)
+    private Status status;
+
 
 
     // 현재 모금액
@@ -65,4 +88,27 @@ public class FundingDocument {
     // 목표 달성률 또는 기타 비율
     @Field(type = FieldType.Integer)
     private Integer rate;
+
+    public static FundingDocument from(Funding funding) {
+        return FundingDocument.builder()
+                .fundingId(funding.getFundingId())
+                .sellerId(funding.getSellerId())
+                .title(funding.getTitle())
+                // 자동완성을 위해 제목을 그대로 설정
+                .titleSuggest(funding.getTitle())
+                .description(funding.getDescription())
+                .imageUrl(funding.getImageUrl())
+                .startDate(funding.getStartDate())
+                .endDate(funding.getEndDate())
+                .status(funding.getStatus())
+                .currentAmount(funding.getCurrentAmount())
+                .category(funding.getCategory())
+                .rate(rateOf(funding.getCurrentAmount(), funding.getTargetAmount()))
+                .build();
+    }
+
+    // 목표 금액 대비 달성률(%)
+    public static int rateOf(int currentAmount, int targetAmount) {
+        return targetAmount != 0 ? (int) ((long) currentAmount * 100 / targetAmount) : 0;
+    }
 }
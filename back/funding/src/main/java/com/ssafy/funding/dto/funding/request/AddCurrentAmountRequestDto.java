@@ -9,4 +9,7 @@ public class AddCurrentAmountRequestDto {
 
     private int fundingId;
     private int amount;
+
+    // 해당 사용자의 이 펀딩 첫 주문 여부 (구매자 수 집계)
+    private boolean firstOrder;
 }
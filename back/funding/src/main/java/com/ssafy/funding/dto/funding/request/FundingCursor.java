@@ -0,0 +1,74 @@
+package com.ssafy.funding.dto.funding.request;
+
+import com.ssafy.funding.common.exception.CustomException;
+import com.ssafy.funding.entity.FundingCard;
+import com.ssafy.funding.entity.FundingWishCount;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.ssafy.funding.common.response.ResponseCode.INVALID_CURSOR;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ * - 마지막으로 내려준 행의 정렬 키(start_date / end_date / current_amount / wish_count)와
+ *   tiebreaker 인 funding_id 를 담아 다음 페이지를 "WHERE 정렬키 < 마지막값" 으로 조회합니다.
+ * - 정렬과 필터(카테고리/토픽)의 해시(query)를 함께 담아, 다른 조건의 목록에 재사용된 커서는 거부합니다.
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출되는 불투명 토큰입니다.
+ */
+public record FundingCursor(
+        String query,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        int currentAmount,
+        int wishCount,
+        int fundingId
+) {
+
+    private static final String DELIMITER = "|";
+    private static final int FIELD_COUNT = 6;
+
+    public static FundingCursor of(String query, FundingCard last) {
+        return new FundingCursor(query, last.getStartDate(), last.getEndDate(), last.getCurrentAmount(), 0, last.getFundingId());
+    }
+
+    public static FundingCursor of(String query, FundingWishCount last) {
+        return new FundingCursor(query, last.getStartDate(), last.getEndDate(), last.getCurrentAmount(), last.getWishCount(), last.getFundingId());
+    }
+
+    // 빈 문자열이면 첫 페이지(null) 로 취급
+    public static FundingCursor decode(String token, String query) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != FIELD_COUNT || !parts[0].equals(query)) throw new CustomException(INVALID_CURSOR);
+
+            return new FundingCursor(
+                    parts[0],
+                    parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[4]),
+                    Integer.parseInt(parts[5])
+            );
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                query,
+                startDate == null ? "" : startDate.toString(),
+                endDate == null ? "" : endDate.toString(),
+                String.valueOf(currentAmount),
+                String.valueOf(wishCount),
+                String.valueOf(fundingId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
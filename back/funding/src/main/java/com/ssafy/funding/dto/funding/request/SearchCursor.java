@@ -0,0 +1,53 @@
+package com.ssafy.funding.dto.funding.request;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.funding.common.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static com.ssafy.funding.common.response.ResponseCode.INVALID_CURSOR;
+
+/**
+ * 검색 결과 search_after 커서
+ * - 마지막 문서의 정렬 값(sort values)을 그대로 담아 다음 페이지 조회 시 search_after 로 전달합니다.
+ * - 정렬/검색어/카테고리의 해시(query)를 함께 담아, 다른 조건의 검색에 재사용된 커서는 거부합니다.
+ *   (정렬 값이 같은 형태라도 다른 결과 집합의 search_after 로 쓰이면 페이지가 어긋남)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출되는 불투명 토큰입니다.
+ */
+public record SearchCursor(
+        String query,
+        List<Object> values
+) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // 빈 문자열이면 첫 페이지(null) 로 취급
+    public static SearchCursor decode(String token, String query) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            SearchCursor cursor = MAPPER.readValue(json, new TypeReference<>() {});
+            if (cursor.values() == null || cursor.values().isEmpty() || !String.valueOf(query).equals(cursor.query())) {
+                throw new CustomException(INVALID_CURSOR);
+            }
+            return cursor;
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.funding.dto.funding.response;
+
+import java.util.List;
+
+public record CursorPageResponseDto<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPageResponseDto<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponseDto<>(content, nextCursor, nextCursor != null);
+    }
+}
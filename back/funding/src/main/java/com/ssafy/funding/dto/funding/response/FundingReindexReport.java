@@ -0,0 +1,24 @@
+package com.ssafy.funding.dto.funding.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 재구축 결과
+ *
+ * @param dbRows      MySQL 에서 읽은 펀딩 수
+ * @param indexedDocs 새 인덱스의 문서 수 (refresh 후 count)
+ * @param swapped     건수가 일치하여 별칭을 새 인덱스로 교체했는지 여부
+ */
+public record FundingReindexReport(
+        String index,
+        LocalDateTime startedAt,
+        long dbRows,
+        long indexedDocs,
+        long catchUpDocs,
+        long elapsedMillis,
+        double docsPerSecond,
+        long peakHeapBytes,
+        boolean swapped,
+        String error
+) {
+}
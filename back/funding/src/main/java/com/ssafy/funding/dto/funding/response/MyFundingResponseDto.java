@@ -1,8 +1,7 @@
 package com.ssafy.funding.dto.funding.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ssafy.funding.common.util.JsonConverter;
-import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingCard;
 import com.ssafy.funding.entity.enums.Status;
 import lombok.Builder;
 import lombok.Data;
@@ -32,12 +31,12 @@ public class MyFundingResponseDto {
 
     private int rate;
 
-    public static MyFundingResponseDto toDto(Funding funding) {
+    public static MyFundingResponseDto toDto(FundingCard funding) {
         return MyFundingResponseDto.builder()
                 .fundingId(funding.getFundingId())
                 .title(funding.getTitle())
                 .description(funding.getDescription())
-                .imageUrl(JsonConverter.convertJsonToImageUrls(funding.getImageUrls()))
+                .imageUrl(funding.getImageUrls())
                 .endDate(funding.getEndDate())
                 .currentAmount(funding.getCurrentAmount())
                 .category(funding.getCategory().name())
@@ -0,0 +1,11 @@
+package com.ssafy.funding.dto.order.response;
+
+import lombok.Data;
+
+@Data
+public class FundingOrderStatsResponseDto {
+
+    private int fundingId;
+    private int orderCount;
+    private int buyerCount;
+}
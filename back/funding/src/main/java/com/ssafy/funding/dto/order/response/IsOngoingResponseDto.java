@@ -3,18 +3,22 @@ package com.ssafy.funding.dto.order.response;
 import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 public class IsOngoingResponseDto {
 
     private Boolean isOngoing;
     private int sellerId;
+    private LocalDateTime endDate;
 
-    public static IsOngoingResponseDto of(Boolean isOngoing, int sellerId) {
+    public static IsOngoingResponseDto of(Boolean isOngoing, int sellerId, LocalDateTime endDate) {
         return IsOngoingResponseDto
                 .builder()
                 .isOngoing(isOngoing)
                 .sellerId(sellerId)
+                .endDate(endDate)
                 .build();
     }
 }
@@ -0,0 +1,18 @@
+package com.ssafy.funding.dto.review.response;
+
+import java.util.List;
+
+/**
+ * 리뷰 키셋(커서) 페이지
+ * - summary 는 첫 페이지(커서 없음)에만 담고, 이후 페이지는 null 입니다.
+ */
+public record ReviewPageResponseDto(
+        ReviewSummaryDto summary,
+        List<ReviewDto> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static ReviewPageResponseDto of(ReviewSummaryDto summary, List<ReviewDto> content, String nextCursor) {
+        return new ReviewPageResponseDto(summary, content, nextCursor, nextCursor != null);
+    }
+}
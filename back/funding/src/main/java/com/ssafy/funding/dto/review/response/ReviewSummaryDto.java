@@ -0,0 +1,19 @@
+package com.ssafy.funding.dto.review.response;
+
+import com.ssafy.funding.entity.FundingStats;
+
+import java.util.Map;
+
+/**
+ * 리뷰 요약 : 리뷰 수, 평균 평점, 별점(1~5) 분포
+ */
+public record ReviewSummaryDto(
+        int reviewCount,
+        float averageRating,
+        Map<Integer, Integer> ratingHistogram
+) {
+    public static ReviewSummaryDto from(FundingStats stats) {
+        if (stats == null) stats = new FundingStats();
+        return new ReviewSummaryDto(stats.getReviewCount(), stats.averageRating(), stats.ratingHistogram());
+    }
+}
@@ -2,31 +2,136 @@ package com.ssafy.funding.elasticsearch;
 
 import com.ssafy.funding.document.FundingDocument;
 import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.enums.Category;
+import com.ssafy.funding.entity.enums.Status;
 import com.ssafy.funding.repository.FundingDocumentRepository;
-import lombok.RequiredArgsConstructor;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch.indices.get_mapping.IndexMappingRecord;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.search.FieldSuggester;
+import co.elastic.clients.elasticsearch.core.search.Suggester;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.suggest.response.Suggest;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * ElasticsearchService 클래스
  * - Funding 엔티티를 Elasticsearch Document로 색인(index) 및 삭제(delete)합니다.
- * - CriteriaQuery를 사용하여 자동완성, 유사 검색, 그리고 용어 추천 기능을 구현합니다.
+ * - completion suggester 기반 자동완성과 multi_match 기반 검색 기능을 제공합니다.
+ * - 진행 중 필터(status keyword)는 현재 별칭 인덱스의 status 매핑이 keyword 일 때만 적용합니다.
+ *   (status 가 없거나 text 로 동적 매핑된 이전 인덱스에서는 term 필터가 아무것도 찾지 못하므로, 재색인 전까지 필터 없이 검색)
+ * - 문서를 반영할 때마다 펀딩 ID 와 반영 시각을 Redis ZSET(funding:search:changed)에 남겨, 재색인 작업이 다른 인스턴스에서
+ *   반영된 변경까지 새 인덱스에 다시 반영할 수 있게 합니다. (보관 기간이 지난 기록은 반영 시 함께 정리)
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ElasticsearchService {
 
+    public static final String INDEX_ALIAS = "funding_index";
+
+    private static final String TITLE_SUGGESTION = "title-suggest";
+    // 제목 가중치를 설명보다 높게, 한글 bigram 필드는 원문 필드보다 낮게
+    private static final List<String> SEARCH_FIELDS = List.of("title^3", "title.cjk^2", "description", "description.cjk^0.5");
+    private static final int SUGGESTION_SIZE = 10;
+
     private final FundingDocumentRepository repository;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final Cache<String, List<String>> suggestionCache;
+    private volatile Boolean statusFilterReady;
+
+    private static final String CHANGED_KEY = "funding:search:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration changeRetention;
+
+    public ElasticsearchService(FundingDocumentRepository repository,
+                                ElasticsearchOperations elasticsearchOperations,
+                                ElasticsearchClient elasticsearchClient,
+                                RedisTemplate<String, String> redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${funding.search.change-log-retention-hours:6}") long changeRetentionHours,
+                                @Value("${funding.search.suggest.cache-size:5000}") long cacheSize,
+                                @Value("${funding.search.suggest.cache-ttl-seconds:60}") long cacheTtlSeconds) {
+        this.repository = repository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.redisTemplate = redisTemplate;
+        this.changeRetention = Duration.ofHours(changeRetentionHours);
+        // 크기 제한 캐시는 자주 쓰이는 접두어 위주로 남음 (W-TinyLFU)
+        this.suggestionCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, suggestionCache, "funding.suggest-cache");
+    }
+
+    /**
+     * 현재 별칭 인덱스의 status 필드가 keyword 인지 확인합니다. (확인 실패 시 필터 미적용으로 간주)
+     */
+    public boolean isStatusFilterReady() {
+        Boolean ready = statusFilterReady;
+        return ready != null ? ready : refreshMappingState();
+    }
+
+    public boolean refreshMappingState() {
+        boolean ready;
+        try {
+            // 별칭이 가리키는 모든 인덱스에 keyword status 가 있어야 함
+            Map<String, IndexMappingRecord> mappings = elasticsearchClient.indices().getMapping(g -> g.index(INDEX_ALIAS)).result();
+            ready = !mappings.isEmpty() && mappings.values().stream().allMatch(mapping -> {
+                Property status = mapping.mappings().properties().get("status");
+                return status != null && status.isKeyword();
+            });
+        } catch (Exception e) {
+            log.warn("검색 인덱스 매핑 확인 실패 - {}", e.getMessage());
+            return false;
+        }
+        if (!ready) log.warn("검색 인덱스 status 필드가 keyword 가 아니므로 재색인 전까지 진행 중 필터를 적용하지 않습니다.");
+        statusFilterReady = ready;
+        return ready;
+    }
+
+    // 다른 인스턴스가 재색인해 별칭이 바뀐 경우를 반영하기 위해 준비 전에는 주기적으로 다시 확인
+    @Scheduled(fixedDelayString = "${funding.search.mapping-check-interval-ms:60000}")
+    public void refreshMappingStateIfPending() {
+        if (!Boolean.TRUE.equals(statusFilterReady)) refreshMappingState();
+    }
 
     /**
      * Funding 엔티티를 FundingDocument로 변환하여 Elasticsearch에 색인(저장)합니다.
@@ -34,7 +139,9 @@ public class ElasticsearchService {
      * @param funding DB의 Funding 엔티티
      */
     public void indexFunding(FundingDocument funding) {
+        boolean titleChanged = isTitleChanged(List.of(funding));
         repository.save(funding);
+        track(List.of(funding.getFundingId()), titleChanged);
     }
 
     /**
@@ -44,104 +151,218 @@ public class ElasticsearchService {
      */
     public void deleteFunding(int fundingId) {
         repository.deleteById(fundingId);
+        track(List.of(fundingId), true);
     }
 
     /**
-     * 단순 접두어 검색 기반 자동완성 기능
-     * CriteriaQuery를 사용하여 "title" 필드가 prefix로 시작하는 문서를 검색합니다.
+     * 여러 문서를 bulk API 한 번으로 색인합니다.
+     *
+     * @param documents 색인할 문서 목록
      */
-    public List<String> getSuggestions(String prefix) {
-        Pageable pageable = PageRequest.of(0, 10);
-        // Criteria: title이 prefix로 시작하는 조건
-        Criteria criteria = new Criteria("title").startsWith(prefix);
-        CriteriaQuery query = new CriteriaQuery(criteria);
-        query.setPageable(pageable);
-        SearchHits<FundingDocument> searchHits = elasticsearchOperations.search(query, FundingDocument.class);
-        return searchHits.getSearchHits().stream()
-                .map(hit -> hit.getContent().getTitle())
-                .distinct()
+    public void bulkIndexFundings(List<FundingDocument> documents) {
+        if (documents.isEmpty()) return;
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getFundingId()))
+                        .withObject(document)
+                        .build())
                 .collect(Collectors.toList());
+        boolean titleChanged = isTitleChanged(documents);
+        try {
+            elasticsearchOperations.bulkIndex(queries, FundingDocument.class);
+        } finally {
+            // 일부 문서만 실패(BulkFailureException)해도 나머지는 반영됐으므로 기록
+            track(documents.stream().map(FundingDocument::getFundingId).toList(), titleChanged);
+        }
     }
 
     /**
-     * 고급 자동완성 기능: 접두어 검색 외에 유사 검색(Fuzzy)과 간단한 용어 추천(Term 기반)을 결합합니다.
+     * 여러 문서를 한 번의 요청으로 삭제합니다.
+     *
+     * @param fundingIds 삭제할 Funding ID 목록
      */
-    public List<String> advancedSuggestions(String prefix) {
-        // 접두어 검색 결과
-        List<String> prefixSuggestions = getSuggestions(prefix);
-
-        // 유사 검색: "title" 필드에 prefix가 포함되는 경우 (contains)
-        Pageable pageable = PageRequest.of(0, 10);
-        Criteria fuzzyCriteria = new Criteria("title").contains(prefix);
-        CriteriaQuery fuzzyQuery = new CriteriaQuery(fuzzyCriteria);
-        fuzzyQuery.setPageable(pageable);
-        SearchHits<FundingDocument> fuzzyHits = elasticsearchOperations.search(fuzzyQuery, FundingDocument.class);
-        List<String> fuzzySuggestions = fuzzyHits.getSearchHits().stream()
-                .map(hit -> hit.getContent().getTitle())
-                .collect(Collectors.toList());
+    public void bulkDeleteFundings(List<Integer> fundingIds) {
+        if (fundingIds.isEmpty()) return;
+        repository.deleteAllById(fundingIds);
+        track(fundingIds, true);
+    }
 
-        // 용어 추천: 간단한 Term 기반 검색 (정확한 단어 매칭을 위해 equals 조건 사용)
-        Criteria termCriteria = new Criteria("title").is(prefix);
-        CriteriaQuery termQuery = new CriteriaQuery(termCriteria);
-        termQuery.setPageable(pageable);
-        SearchHits<FundingDocument> termHits = elasticsearchOperations.search(termQuery, FundingDocument.class);
-        List<String> termSuggestions = termHits.getSearchHits().stream()
-                .map(hit -> hit.getContent().getTitle())
+    /**
+     * 모금액/달성률만 부분 갱신(_update)합니다. 문서 전체를 다시 쓰지 않습니다.
+     * - 색인에 아직 없는 문서는 실패로 돌려주며, 호출 측에서 건너뜁니다. (생성 색인은 아웃박스가 담당)
+     *
+     * @param fundings fundingId, currentAmount, targetAmount 가 채워진 엔티티 목록
+     */
+    public void bulkUpdateAmounts(List<Funding> fundings) {
+        if (fundings.isEmpty()) return;
+        List<UpdateQuery> queries = fundings.stream()
+                .map(funding -> {
+                    Document document = Document.create();
+                    document.put("currentAmount", funding.getCurrentAmount());
+                    document.put("rate", FundingDocument.rateOf(funding.getCurrentAmount(), funding.getTargetAmount()));
+                    return UpdateQuery.builder(String.valueOf(funding.getFundingId()))
+                            .withDocument(document)
+                            .withRetryOnConflict(3)
+                            .build();
+                })
                 .collect(Collectors.toList());
-
-        // 세 결과를 합치고 중복 제거
-        List<String> advanced = new ArrayList<>(prefixSuggestions);
-        advanced.addAll(fuzzySuggestions);
-        advanced.addAll(termSuggestions);
-        return advanced.stream().distinct().collect(Collectors.toList());
+        try {
+            elasticsearchOperations.bulkUpdate(queries, FundingDocument.class);
+        } finally {
+            // 일부 실패여도 반영된 문서가 있으므로 기록 (제목 변경이 아니므로 자동완성 캐시는 유지)
+            recordChanged(fundings.stream().map(Funding::getFundingId).toList());
+        }
     }
 
     /**
-     * 검색 기능: 주어진 keyword를 기반으로 제목이나 설명에 대해 검색을 수행합니다.
-     * CriteriaQuery를 사용하며, 페이지네이션 및 정렬 옵션을 지원합니다.
-     *
-     * @param keyword 검색어
-     * @param sort    정렬 기준 필드 (예: "title")
-     * @param page    페이지 번호 (1부터 시작)
-     * @param size    한 페이지당 결과 수
-     * @return 검색 결과 FundingDocument 리스트
+     * fromMillis 이후 어느 인스턴스에서든 색인/삭제된 펀딩 ID 를 조회합니다. (재색인 따라잡기용)
      */
-    public List<FundingDocument> searchDocuments(String keyword, String sort, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-
-        // 제목 또는 설명에 keyword가 포함되는 조건
-        Criteria criteria = new Criteria("title").contains(keyword)
-                .or(new Criteria("description").contains(keyword));
-        CriteriaQuery query = new CriteriaQuery(criteria);
-        query.setPageable(pageable);
-
-        // 정렬 옵션 추가: sort 값에 따라 실제 Elasticsearch 정렬 필드와 방향 결정
-        if (sort != null && !sort.isEmpty()) {
-            org.springframework.data.domain.Sort sortOption;
-            switch (sort.toLowerCase()) {
-                case "latest":
-                    // 최신순: 종료 날짜(endDate)를 내림차순 정렬
-                    sortOption = org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "endDate");
-                    break;
-                case "oldest":
-                    // 오래된 순: 종료 날짜를 오름차순 정렬
-                    sortOption = org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.ASC, "endDate");
-                    break;
-                case "popular":
-                    // 인기순: rate 필드를 내림차순 정렬 (필요에 따라 currentAmount 등으로도 변경 가능)
-                    sortOption = org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "rate");
-                    break;
-                default:
-                    sortOption = org.springframework.data.domain.Sort.unsorted();
-                    break;
+    public Set<Integer> changedSince(long fromMillis) {
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(CHANGED_KEY, fromMillis, Double.POSITIVE_INFINITY);
+        if (members == null) return Set.of();
+        return members.stream().map(Integer::valueOf).collect(Collectors.toSet());
+    }
+
+    // 문서 반영 후처리 : 변경 기록, 자동완성 결과가 바뀌는 경우(제목 변경, 신규/삭제 문서)에만 캐시 비움
+    private void track(Collection<Integer> fundingIds, boolean titleChanged) {
+        recordChanged(fundingIds);
+        if (titleChanged) suggestionCache.invalidateAll();
+    }
+
+    // 기록 실패는 색인 자체를 실패시키지 않음 (그 사이 재색인이 진행 중이면 해당 변경은 다음 변경/재색인 때 반영)
+    private void recordChanged(Collection<Integer> fundingIds) {
+        if (fundingIds.isEmpty()) return;
+        long now = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> tuples = fundingIds.stream()
+                .map(fundingId -> ZSetOperations.TypedTuple.of(String.valueOf(fundingId), (double) now))
+                .collect(Collectors.toSet());
+        try {
+            redisTemplate.opsForZSet().add(CHANGED_KEY, tuples);
+            redisTemplate.opsForZSet().removeRangeByScore(CHANGED_KEY, 0, now - changeRetention.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("검색 문서 변경 기록 실패 - ids: {}, error: {}", fundingIds.size(), e.getMessage());
+        }
+    }
+
+    // 색인 전 기존 문서의 제목만 조회(mget)해 새 문서이거나 제목이 달라진 문서가 있는지 확인 (조회 실패 시 바뀐 것으로 간주)
+    private boolean isTitleChanged(List<FundingDocument> documents) {
+        NativeQuery query = NativeQuery.builder()
+                .withIds(documents.stream().map(document -> String.valueOf(document.getFundingId())).toList())
+                .withSourceFilter(new FetchSourceFilter(new String[]{"title"}, null))
+                .build();
+        Map<Integer, String> indexedTitles = new HashMap<>();
+        try {
+            for (MultiGetItem<FundingDocument> item : elasticsearchOperations.multiGet(query, FundingDocument.class)) {
+                if (item.hasItem()) indexedTitles.put(item.getItem().getFundingId(), item.getItem().getTitle());
             }
-            query.addSort(sortOption);
+        } catch (Exception e) {
+            log.warn("기존 검색 문서 제목 조회 실패 - {}", e.getMessage());
+            return true;
         }
+        return documents.stream().anyMatch(document -> !indexedTitles.containsKey(document.getFundingId())
+                || !Objects.equals(indexedTitles.get(document.getFundingId()), document.getTitle()));
+    }
 
+    /**
+     * 자동완성 : 요청 한 번에 completion suggester(titleSuggest) 와 title.ngram 매칭을 함께 조회합니다.
+     * - 접두어 일치는 completion 결과를 우선하고, 부족한 만큼 단어 단위 n-gram 매칭 결과로 채웁니다.
+     * - 자주 입력되는 접두어는 인메모리 캐시에서 응답하며, 색인된 제목이 바뀌면 캐시를 비웁니다.
+     */
+    public List<String> suggest(String prefix) {
+        String normalized = prefix == null ? "" : prefix.trim().toLowerCase();
+        if (normalized.isEmpty()) return List.of();
+        return suggestionCache.get(normalized, this::searchSuggestions);
+    }
+
+    private List<String> searchSuggestions(String prefix) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.match(m -> m.field("title.ngram").query(prefix)))
+                .withSuggester(Suggester.of(s -> s.suggesters(TITLE_SUGGESTION, FieldSuggester.of(f -> f
+                        .prefix(prefix)
+                        .completion(c -> c.field("titleSuggest").skipDuplicates(true).size(SUGGESTION_SIZE))))))
+                .withSourceFilter(new FetchSourceFilter(new String[]{"title"}, null))
+                .withMaxResults(SUGGESTION_SIZE)
+                .build();
         SearchHits<FundingDocument> searchHits = elasticsearchOperations.search(query, FundingDocument.class);
+
+        Set<String> suggestions = new LinkedHashSet<>();
+        Suggest suggest = searchHits.getSuggest();
+        if (suggest != null && suggest.getSuggestion(TITLE_SUGGESTION) != null) {
+            suggest.getSuggestion(TITLE_SUGGESTION).getEntries()
+                    .forEach(entry -> entry.getOptions().forEach(option -> suggestions.add(option.getText())));
+        }
+        searchHits.forEach(hit -> suggestions.add(hit.getContent().getTitle()));
+        return suggestions.stream().filter(Objects::nonNull).limit(SUGGESTION_SIZE).toList();
+    }
+
+    /**
+     * 검색 기능 : 제목/설명에 대한 multi_match 로 관련도 순 검색을 수행합니다.
+     * - 진행 중(ONGOING) 펀딩만(인덱스 매핑이 준비된 경우), category 가 있으면 해당 카테고리만 filter 로 조회합니다. (점수 계산 제외, 캐시됨)
+     * - 정렬 지정 시 해당 필드 우선, 이후 관련도와 fundingId 로 순서를 고정합니다.
+     *
+     * @param keyword  검색어
+     * @param sort     정렬 기준 (latest, oldest, popular, 그 외는 관련도순)
+     * @param category 카테고리 (null 이면 전체)
+     * @param page     페이지 번호 (1부터 시작)
+     * @param size     한 페이지당 결과 수
+     * @return 검색 결과 FundingDocument 리스트
+     */
+    public List<FundingDocument> searchDocuments(String keyword, String sort, Category category, int page, int size) {
+        NativeQuery query = searchQueryBuilder(keyword, sort, category)
+                .withPageable(PageRequest.of(Math.max(page, 1) - 1, size))
+                .build();
         List<FundingDocument> docs = new ArrayList<>();
-        searchHits.forEach(hit -> docs.add(hit.getContent()));
+        elasticsearchOperations.search(query, FundingDocument.class).forEach(hit -> docs.add(hit.getContent()));
         return docs;
     }
 
+    /**
+     * search_after 기반 검색 : 이전 페이지 마지막 문서의 정렬 값 이후부터 size 건을 조회합니다.
+     * from 을 쓰지 않으므로 깊은 페이지도 비용이 일정합니다.
+     *
+     * @param searchAfter 이전 페이지 마지막 문서의 sort values (첫 페이지는 null)
+     */
+    public SearchHits<FundingDocument> searchDocumentsAfter(String keyword, String sort, Category category,
+                                                            List<Object> searchAfter, int size) {
+        NativeQueryBuilder builder = searchQueryBuilder(keyword, sort, category)
+                .withMaxResults(size)
+                .withTrackTotalHits(false);
+        if (searchAfter != null) builder.withSearchAfter(searchAfter);
+        return elasticsearchOperations.search(builder.build(), FundingDocument.class);
+    }
+
+    private NativeQueryBuilder searchQueryBuilder(String keyword, String sort, Category category) {
+        List<Query> filters = new ArrayList<>();
+        if (isStatusFilterReady()) filters.add(Query.of(q -> q.term(t -> t.field("status").value(Status.ONGOING.name()))));
+        if (category != null) filters.add(Query.of(q -> q.term(t -> t.field("category").value(category.name()))));
+
+        Query query = Query.of(q -> q.bool(b -> b
+                .must(m -> m.multiMatch(mm -> mm
+                        .query(keyword)
+                        .fields(SEARCH_FIELDS)
+                        .type(TextQueryType.BestFields)
+                        .tieBreaker(0.3)))
+                .filter(filters)));
+
+        List<SortOptions> sorts = new ArrayList<>();
+        switch (sort == null ? "" : sort.toLowerCase()) {
+            // 최신순/오래된순 : 기존 검색과 같이 종료 날짜 기준 (이전 인덱스 문서에도 있는 필드)
+            case "latest" -> sorts.add(fieldSort("endDate", SortOrder.Desc));
+            case "oldest" -> sorts.add(fieldSort("endDate", SortOrder.Asc));
+            // 인기순 : 달성률 내림차순
+            case "popular" -> sorts.add(fieldSort("rate", SortOrder.Desc));
+            default -> { }
+        }
+        sorts.add(SortOptions.of(so -> so.score(sc -> sc.order(SortOrder.Desc))));
+        sorts.add(fieldSort("fundingId", SortOrder.Asc));
+
+        return NativeQuery.builder()
+                .withQuery(query)
+                .withSort(sorts);
+    }
+
+    private static SortOptions fieldSort(String field, SortOrder order) {
+        return SortOptions.of(so -> so.field(f -> f.field(field).order(order)));
+    }
+
 }
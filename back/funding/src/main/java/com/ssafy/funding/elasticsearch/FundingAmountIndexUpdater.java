@@ -0,0 +1,132 @@
+package com.ssafy.funding.elasticsearch;
+
+import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.event.FundingChangedEvent;
+import com.ssafy.funding.mapper.FundingMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 모금액 → 검색 색인(currentAmount, rate) 준실시간 반영
+ * - 모금액 변경 이벤트를 펀딩 ID 단위로 모아 두었다가 flush 주기마다 bulk 부분 갱신(_update) 한 번으로 반영합니다.
+ * - 같은 펀딩에 주문이 몰려도 주기당 한 번만 갱신하며, 값은 flush 시점의 DB 값(절대값)이라 재시도/중복 반영에도 안전합니다.
+ * - flush 주기가 곧 인기순 검색의 최대 지연이며, 실제 지연은 funding.search.amount.freshness 로 확인합니다.
+ */
+@Slf4j
+@Component
+public class FundingAmountIndexUpdater {
+
+    private static final int DOCUMENT_MISSING = 404;
+
+    private final FundingMapper fundingMapper;
+    private final ElasticsearchService elasticsearchService;
+    private final int maxBatchSize;
+
+    // 펀딩 ID → 처음 변경된 시각 (반영 지연 측정용)
+    private final Map<Integer, Long> pending = new ConcurrentHashMap<>();
+
+    private final Counter changeCounter;
+    private final Counter updatedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer freshnessTimer;
+
+    public FundingAmountIndexUpdater(FundingMapper fundingMapper,
+                                     ElasticsearchService elasticsearchService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${funding.search.amount.max-batch-size:1000}") int maxBatchSize) {
+        this.fundingMapper = fundingMapper;
+        this.elasticsearchService = elasticsearchService;
+        this.maxBatchSize = maxBatchSize;
+
+        this.changeCounter = Counter.builder("funding.search.amount.changes").register(meterRegistry);
+        this.updatedCounter = Counter.builder("funding.search.amount.updates").tag("result", "success").register(meterRegistry);
+        this.failedCounter = Counter.builder("funding.search.amount.updates").tag("result", "failure").register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("funding.search.amount.batch.size").register(meterRegistry);
+        this.freshnessTimer = Timer.builder("funding.search.amount.freshness").register(meterRegistry);
+        Gauge.builder("funding.search.amount.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    // 커밋된 모금액 변경만 반영 대상으로 등록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFundingChanged(FundingChangedEvent event) {
+        if (event.getType() != FundingChangedEvent.ChangeType.AMOUNT_CHANGED) return;
+        markDirty(event.getFundingId());
+    }
+
+    public void markDirty(int fundingId) {
+        changeCounter.increment();
+        pending.putIfAbsent(fundingId, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${funding.search.amount.flush-interval-ms:1000}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            Map<Integer, Long> batch = drain();
+            if (batch.isEmpty()) return;
+            if (!update(batch)) return;
+        }
+    }
+
+    private Map<Integer, Long> drain() {
+        Map<Integer, Long> batch = new ConcurrentHashMap<>();
+        for (Map.Entry<Integer, Long> entry : pending.entrySet()) {
+            if (batch.size() >= maxBatchSize) break;
+            if (pending.remove(entry.getKey(), entry.getValue())) batch.put(entry.getKey(), entry.getValue());
+        }
+        return batch;
+    }
+
+    // 반영에 실패하면 다음 주기에 다시 시도하도록 되돌리고 false
+    private boolean update(Map<Integer, Long> batch) {
+        List<Funding> amounts = List.of();
+        try {
+            amounts = fundingMapper.findAmountsByIds(new ArrayList<>(batch.keySet()));
+            batchSizeSummary.record(amounts.size());
+            elasticsearchService.bulkUpdateAmounts(amounts);
+            updatedCounter.increment(amounts.size());
+        } catch (BulkFailureException e) {
+            // 색인에 아직 없는 문서(404)는 아웃박스 색인이 최신 값으로 만들므로 버림
+            int retried = 0;
+            for (Map.Entry<String, BulkFailureException.FailureDetails> failure : e.getFailedDocuments().entrySet()) {
+                if (failure.getValue().status() == DOCUMENT_MISSING) continue;
+                Integer fundingId = Integer.valueOf(failure.getKey());
+                requeue(fundingId, batch.get(fundingId));
+                retried++;
+            }
+            updatedCounter.increment(amounts.size() - e.getFailedDocuments().size());
+            failedCounter.increment(e.getFailedDocuments().size());
+            log.warn("검색 색인 모금액 일부 반영 실패 - failed: {}, retry: {}", e.getFailedDocuments().size(), retried);
+        } catch (RuntimeException e) {
+            batch.forEach(this::requeue);
+            failedCounter.increment(batch.size());
+            log.warn("검색 색인 모금액 반영 실패, 다음 주기에 재시도 - size: {}, error: {}", batch.size(), e.getMessage());
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        batch.forEach((fundingId, changedAt) -> {
+            if (!pending.containsKey(fundingId)) freshnessTimer.record(Duration.ofMillis(now - changedAt));
+        });
+        return true;
+    }
+
+    private void requeue(Integer fundingId, Long changedAt) {
+        if (changedAt != null) pending.merge(fundingId, changedAt, Math::min);
+    }
+}
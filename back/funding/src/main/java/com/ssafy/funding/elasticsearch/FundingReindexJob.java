@@ -0,0 +1,312 @@
+package com.ssafy.funding.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.ssafy.funding.common.exception.CustomException;
+import com.ssafy.funding.document.FundingDocument;
+import com.ssafy.funding.dto.funding.response.FundingReindexReport;
+import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.mapper.FundingMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.ssafy.funding.common.response.ResponseCode.REINDEX_IN_PROGRESS;
+
+/**
+ * 검색 색인 무중단 재구축
+ * 1. 새 버전 인덱스(funding_index_vyyyyMMddHHmmss)를 refresh 비활성화, replica 0 으로 생성
+ * 2. MyBatis Cursor 로 funding 을 한 행씩 읽어 청크 단위로 변환/bulk 색인 (동시 진행 청크 수 제한으로 메모리 일정)
+ * 3. 설정 복구 후 건수 검증, 재구축 중 (모든 인스턴스에서) 별칭에 반영된 펀딩을 새 인덱스에 다시 반영
+ * 4. funding_index 별칭을 새 인덱스로 원자적으로 교체 (기존 인덱스 이름이 funding_index 면 remove_index 로 교체)
+ * - 교체 전까지 조회/색인은 모두 기존 인덱스를 사용합니다.
+ * - 따라잡기 대상은 ElasticsearchService 가 Redis 에 남긴 변경 기록에서 시작 시각 이후(인스턴스 간 시계 차이만큼 여유)로 조회합니다.
+ * - 기동 시 현재 인덱스 매핑이 문서 정의보다 오래됐으면(keyword status 없음) 한 인스턴스만 자동으로 재구축합니다.
+ */
+@Slf4j
+@Component
+public class FundingReindexJob {
+
+    private static final String ALIAS = "funding_index";
+    private static final String VERSION_PREFIX = ALIAS + "_v";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String AUTO_REINDEX_LOCK = "funding:search:auto-reindex:lock";
+    // 인스턴스 간 시계 차이 여유 (그만큼 더 이전 변경까지 다시 반영)
+    private static final long CLOCK_SKEW_MILLIS = 60_000;
+
+    private final FundingMapper fundingMapper;
+    private final ElasticsearchService elasticsearchService;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean autoReindex;
+
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<FundingReindexReport> lastReport = new AtomicReference<>();
+    private final ExecutorService launcher = Executors.newSingleThreadExecutor(r -> new Thread(r, "funding-reindex"));
+
+    public FundingReindexJob(FundingMapper fundingMapper,
+                             ElasticsearchService elasticsearchService,
+                             ElasticsearchOperations elasticsearchOperations,
+                             ElasticsearchClient elasticsearchClient,
+                             PlatformTransactionManager transactionManager,
+                             RedisTemplate<String, String> redisTemplate,
+                             @Value("${funding.search.reindex.auto-on-outdated-mapping:true}") boolean autoReindex,
+                             @Value("${funding.search.reindex.chunk-size:1000}") int chunkSize,
+                             @Value("${funding.search.reindex.parallelism:4}") int parallelism) {
+        this.fundingMapper = fundingMapper;
+        this.elasticsearchService = elasticsearchService;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.elasticsearchClient = elasticsearchClient;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.redisTemplate = redisTemplate;
+        this.autoReindex = autoReindex;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    // 백그라운드로 재구축 시작 (진행 중이면 예외)
+    public void start() {
+        start(null);
+    }
+
+    private void start(Runnable onFinish) {
+        if (!running.compareAndSet(false, true)) throw new CustomException(REINDEX_IN_PROGRESS);
+        launcher.submit(() -> {
+            try {
+                lastReport.set(reindex());
+            } finally {
+                running.set(false);
+                if (onFinish != null) onFinish.run();
+            }
+        });
+    }
+
+    // 배포 직후 이전 매핑의 인덱스라면 자동 재구축 (여러 인스턴스가 동시에 기동해도 Redis 잠금으로 한 번만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexIfMappingOutdated() {
+        if (!autoReindex || elasticsearchService.refreshMappingState()) return;
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(AUTO_REINDEX_LOCK, "1", Duration.ofHours(1));
+            if (!Boolean.TRUE.equals(acquired)) return;
+            log.info("검색 인덱스 매핑이 오래되어 자동 재색인을 시작합니다.");
+            start(() -> redisTemplate.delete(AUTO_REINDEX_LOCK));
+        } catch (RuntimeException e) {
+            log.warn("자동 재색인 시작 실패 - {}", e.getMessage());
+        }
+    }
+
+    public FundingReindexReport getLastReport() {
+        return lastReport.get();
+    }
+
+    private FundingReindexReport reindex() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        String newIndex = VERSION_PREFIX + startedAt.format(VERSION_FORMAT);
+        IndexCoordinates target = IndexCoordinates.of(newIndex);
+        long startNanos = System.nanoTime();
+        long startedAtMillis = System.currentTimeMillis();
+        AtomicLong peakHeap = new AtomicLong();
+
+        try {
+            Settings settings = createIndexForBulkLoad(newIndex);
+            long dbRows = bulkLoad(target, peakHeap);
+            restoreSettings(newIndex, settings);
+
+            long catchUpStartedAt = System.currentTimeMillis();
+            long catchUp = catchUp(target, startedAtMillis);
+            elasticsearchOperations.indexOps(target).refresh();
+            long indexedDocs = elasticsearchOperations.count(Query.findAll(), FundingDocument.class, target);
+            long expected = fundingMapper.countAll();
+
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            double docsPerSecond = elapsedMillis == 0 ? dbRows : dbRows * 1000.0 / elapsedMillis;
+
+            if (indexedDocs != expected) {
+                log.warn("재색인 건수 불일치로 별칭 교체 중단 - index: {}, db: {}, es: {}", newIndex, expected, indexedDocs);
+                return new FundingReindexReport(newIndex, startedAt, dbRows, indexedDocs, catchUp, elapsedMillis,
+                        docsPerSecond, peakHeap.get(), false, "count mismatch: db=" + expected + ", es=" + indexedDocs);
+            }
+
+            Set<String> previous = swapAlias(newIndex);
+            elasticsearchService.refreshMappingState();
+            // 첫 따라잡기 이후 교체 직전까지 기존 인덱스로만 반영된 변경을 새 인덱스에 다시 반영
+            catchUp += catchUp(target, catchUpStartedAt);
+            deleteStaleIndices(newIndex, previous);
+
+            log.info("재색인 완료 - index: {}, rows: {}, docs: {}, {}ms, {} docs/s, peak heap: {}MB",
+                    newIndex, dbRows, indexedDocs, elapsedMillis, String.format("%.1f", docsPerSecond), peakHeap.get() / (1024 * 1024));
+            return new FundingReindexReport(newIndex, startedAt, dbRows, indexedDocs, catchUp, elapsedMillis,
+                    docsPerSecond, peakHeap.get(), true, null);
+        } catch (Exception e) {
+            log.error("재색인 실패 - index: {}", newIndex, e);
+            long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            return new FundingReindexReport(newIndex, startedAt, 0, 0, 0, elapsedMillis, 0, peakHeap.get(), false, e.getMessage());
+        }
+    }
+
+    // 색인 중에는 refresh/replica 를 끄고, 원래 값은 반환하여 완료 후 복구
+    private Settings createIndexForBulkLoad(String newIndex) {
+        IndexOperations templateOps = elasticsearchOperations.indexOps(FundingDocument.class);
+        Settings original = templateOps.createSettings().flatten();
+
+        Settings bulkSettings = new Settings(original);
+        bulkSettings.put("index.refresh_interval", "-1");
+        bulkSettings.put("index.number_of_replicas", "0");
+        elasticsearchOperations.indexOps(IndexCoordinates.of(newIndex)).create(bulkSettings, templateOps.createMapping());
+        return original;
+    }
+
+    private long bulkLoad(IndexCoordinates target, AtomicLong peakHeap) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        long rows;
+
+        try {
+            rows = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                List<Funding> chunk = new ArrayList<>(chunkSize);
+                try (Cursor<Funding> cursor = fundingMapper.streamAll()) {
+                    for (Funding funding : cursor) {
+                        chunk.add(funding);
+                        count++;
+                        if (chunk.size() == chunkSize) {
+                            submitChunk(workers, inFlight, failure, target, chunk, peakHeap);
+                            chunk = new ArrayList<>(chunkSize);
+                        }
+                    }
+                    if (!chunk.isEmpty()) submitChunk(workers, inFlight, failure, target, chunk, peakHeap);
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return count;
+            });
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.MINUTES);
+        }
+
+        if (failure.get() != null) throw new IllegalStateException("bulk 색인 실패", failure.get());
+        return rows;
+    }
+
+    private void submitChunk(ExecutorService workers, Semaphore inFlight, AtomicReference<Exception> failure,
+                             IndexCoordinates target, List<Funding> chunk, AtomicLong peakHeap) throws InterruptedException {
+        if (failure.get() != null) throw new IllegalStateException("bulk 색인 실패", failure.get());
+
+        inFlight.acquire();
+        workers.submit(() -> {
+            try {
+                elasticsearchOperations.bulkIndex(toIndexQueries(chunk), target);
+                Runtime runtime = Runtime.getRuntime();
+                peakHeap.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void restoreSettings(String newIndex, Settings original) throws IOException {
+        String refreshInterval = String.valueOf(original.getOrDefault("index.refresh_interval", "1s"));
+        String replicas = String.valueOf(original.getOrDefault("index.number_of_replicas", "1"));
+        elasticsearchClient.indices().putSettings(p -> p
+                .index(newIndex)
+                .settings(s -> s
+                        .refreshInterval(t -> t.time(refreshInterval))
+                        .numberOfReplicas(replicas)));
+    }
+
+    // sinceMillis 이후 변경된 펀딩을 DB 기준으로 새 인덱스에 반영
+    private long catchUp(IndexCoordinates target, long sinceMillis) {
+        Set<Integer> changed = elasticsearchService.changedSince(sinceMillis - CLOCK_SKEW_MILLIS);
+        if (changed.isEmpty()) return 0;
+
+        List<Funding> fundings = fundingMapper.findAllByIds(new ArrayList<>(changed));
+        if (!fundings.isEmpty()) elasticsearchOperations.bulkIndex(toIndexQueries(fundings), target);
+
+        Set<Integer> deleted = new HashSet<>(changed);
+        fundings.forEach(funding -> deleted.remove(funding.getFundingId()));
+        deleted.forEach(fundingId -> elasticsearchOperations.delete(String.valueOf(fundingId), target));
+        return changed.size();
+    }
+
+    // 별칭을 새 인덱스로 교체하고 이전 대상 인덱스 목록을 반환
+    private Set<String> swapAlias(String newIndex) throws IOException {
+        AliasActions actions = new AliasActions(new AliasAction.Add(
+                AliasActionParameters.builder().withIndices(newIndex).withAliases(ALIAS).build()));
+
+        Set<String> previous = new HashSet<>();
+        if (elasticsearchClient.indices().existsAlias(e -> e.name(ALIAS)).value()) {
+            previous.addAll(elasticsearchClient.indices().getAlias(g -> g.name(ALIAS)).result().keySet());
+            if (!previous.isEmpty()) {
+                actions.add(new AliasAction.Remove(
+                        AliasActionParameters.builder().withIndices(previous.toArray(String[]::new)).withAliases(ALIAS).build()));
+            }
+        } else if (elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS)).exists()) {
+            // 최초 1회 : 자동 생성된 실제 인덱스 funding_index 를 삭제하면서 같은 이름의 별칭을 추가
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(ALIAS).build()));
+        }
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(newIndex)).alias(actions);
+        return previous;
+    }
+
+    // 직전 인덱스는 롤백용으로 남기고 그 이전 버전은 삭제
+    private void deleteStaleIndices(String newIndex, Set<String> previous) throws IOException {
+        Set<String> versions = elasticsearchClient.indices().get(g -> g.index(VERSION_PREFIX + "*")).result().keySet();
+        for (String index : versions) {
+            if (index.equals(newIndex) || previous.contains(index)) continue;
+            elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+            log.info("이전 검색 인덱스 삭제 - {}", index);
+        }
+    }
+
+    private static List<IndexQuery> toIndexQueries(List<Funding> fundings) {
+        return fundings.stream()
+                .map(FundingDocument::from)
+                .map(document -> new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getFundingId()))
+                        .withObject(document)
+                        .build())
+                .toList();
+    }
+}
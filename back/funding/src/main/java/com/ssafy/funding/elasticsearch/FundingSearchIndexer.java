@@ -0,0 +1,186 @@
+package com.ssafy.funding.elasticsearch;
+
+import com.ssafy.funding.document.FundingDocument;
+import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingSearchOutbox;
+import com.ssafy.funding.mapper.FundingMapper;
+import com.ssafy.funding.mapper.FundingSearchOutboxMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled Job - 검색 색인 아웃박스 처리
+ * - funding_search_outbox 를 batch-size 단위로 읽어 UPSERT 는 bulk 색인, DELETE 는 일괄 삭제합니다.
+ * - 같은 펀딩의 중복 항목은 한 번만 처리합니다. bulk 응답에서 실패한 문서의 항목만 지수 백오프로 재시도하고
+ *   (요청 자체가 실패하면 배치 전체), max-attempts 번 실패한 항목은 보류(parked_at)해 다른 항목을 막지 않게 합니다.
+ * - 색인은 멱등하므로 여러 인스턴스가 같은 항목을 처리해도 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class FundingSearchIndexer {
+
+    private final FundingSearchOutboxMapper outboxMapper;
+    private final FundingMapper fundingMapper;
+    private final ElasticsearchService elasticsearchService;
+
+    private final int batchSize;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int maxAttempts;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong parkedCount = new AtomicLong();
+
+    public FundingSearchIndexer(FundingSearchOutboxMapper outboxMapper,
+                                FundingMapper fundingMapper,
+                                ElasticsearchService elasticsearchService,
+                                MeterRegistry meterRegistry,
+                                @Value("${funding.search.outbox.batch-size:500}") int batchSize,
+                                @Value("${funding.search.outbox.backoff.base-ms:1000}") long baseBackoffMillis,
+                                @Value("${funding.search.outbox.backoff.max-ms:300000}") long maxBackoffMillis,
+                                @Value("${funding.search.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxMapper = outboxMapper;
+        this.fundingMapper = fundingMapper;
+        this.elasticsearchService = elasticsearchService;
+        this.batchSize = batchSize;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.maxAttempts = maxAttempts;
+
+        this.batchSizeSummary = DistributionSummary.builder("funding.search.outbox.batch.size").register(meterRegistry);
+        this.indexedCounter = Counter.builder("funding.search.outbox.processed").tag("result", "success").register(meterRegistry);
+        this.failedCounter = Counter.builder("funding.search.outbox.processed").tag("result", "failure").register(meterRegistry);
+        this.parkedCounter = Counter.builder("funding.search.outbox.processed").tag("result", "parked").register(meterRegistry);
+        Gauge.builder("funding.search.outbox.lag", lagMillis, AtomicLong::get).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("funding.search.outbox.parked", parkedCount, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${funding.search.outbox.flush-interval-ms:1000}")
+    public void flush() {
+        List<FundingSearchOutbox> due;
+        do {
+            due = outboxMapper.findDue(batchSize);
+            if (due.isEmpty()) break;
+            processBatch(due);
+        } while (due.size() == batchSize);
+
+        LocalDateTime oldest = outboxMapper.findOldestCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis());
+        parkedCount.set(outboxMapper.countParked());
+    }
+
+    private void processBatch(List<FundingSearchOutbox> batch) {
+        batchSizeSummary.record(batch.size());
+
+        // 같은 펀딩에 대한 항목은 마지막 작업만 반영
+        Set<Integer> upsertIds = new LinkedHashSet<>();
+        Set<Integer> deleteIds = new LinkedHashSet<>();
+        for (FundingSearchOutbox outbox : batch) {
+            if (outbox.getOperation() == FundingSearchOutbox.Operation.DELETE) {
+                upsertIds.remove(outbox.getFundingId());
+                deleteIds.add(outbox.getFundingId());
+            } else {
+                deleteIds.remove(outbox.getFundingId());
+                upsertIds.add(outbox.getFundingId());
+            }
+        }
+
+        Set<Integer> failedIds = new HashSet<>();
+        try {
+            if (!upsertIds.isEmpty()) {
+                List<Funding> fundings = fundingMapper.findAllByIds(new ArrayList<>(upsertIds));
+                List<FundingDocument> documents = new ArrayList<>(fundings.size());
+                for (Funding funding : fundings) {
+                    try {
+                        documents.add(FundingDocument.from(funding));
+                    } catch (RuntimeException e) {
+                        failedIds.add(funding.getFundingId());
+                        log.warn("검색 문서 변환 실패 - fundingId: {}, error: {}", funding.getFundingId(), e.getMessage());
+                    }
+                }
+                failedIds.addAll(indexDocuments(documents));
+
+                // 색인 전에 삭제된 펀딩은 문서도 삭제
+                fundings.forEach(funding -> upsertIds.remove(funding.getFundingId()));
+                deleteIds.addAll(upsertIds);
+            }
+            elasticsearchService.bulkDeleteFundings(new ArrayList<>(deleteIds));
+        } catch (Exception e) {
+            // 요청 자체가 실패하면(ES/DB 장애) 어느 문서가 반영됐는지 알 수 없으므로 배치 전체 재시도 (보류하지 않음)
+            retry(batch, false, e.getMessage());
+            return;
+        }
+
+        List<FundingSearchOutbox> failed = batch.stream().filter(outbox -> failedIds.contains(outbox.getFundingId())).toList();
+        List<Long> doneIds = batch.stream()
+                .filter(outbox -> !failedIds.contains(outbox.getFundingId()))
+                .map(FundingSearchOutbox::getOutboxId)
+                .toList();
+        if (!doneIds.isEmpty()) {
+            outboxMapper.deleteByIds(doneIds);
+            indexedCounter.increment(doneIds.size());
+        }
+        if (!failed.isEmpty()) retry(failed, true, "문서별 색인 실패");
+    }
+
+    // bulk 색인 후 실패한 문서의 fundingId 반환 (나머지 문서는 반영됨)
+    private Set<Integer> indexDocuments(List<FundingDocument> documents) {
+        try {
+            elasticsearchService.bulkIndexFundings(documents);
+            return Set.of();
+        } catch (BulkFailureException e) {
+            Set<Integer> failedIds = new HashSet<>();
+            e.getFailedDocuments().forEach((id, details) -> {
+                failedIds.add(Integer.valueOf(id));
+                log.warn("검색 문서 색인 실패 - fundingId: {}, status: {}, error: {}", id, details.status(), details.errorMessage());
+            });
+            return failedIds;
+        }
+    }
+
+    // 항목별 시도 횟수로 백오프를 정하고, 문서 단위로 실패가 확인된 항목은 한도에 도달하면 보류
+    private void retry(List<FundingSearchOutbox> rows, boolean parkable, String reason) {
+        List<Long> parked = new ArrayList<>();
+        Map<Long, List<Long>> idsByBackoff = new TreeMap<>();
+        for (FundingSearchOutbox outbox : rows) {
+            if (parkable && outbox.getAttempts() + 1 >= maxAttempts) {
+                parked.add(outbox.getOutboxId());
+                continue;
+            }
+            long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(outbox.getAttempts(), 20));
+            idsByBackoff.computeIfAbsent(backoff, key -> new ArrayList<>()).add(outbox.getOutboxId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByBackoff.forEach((backoff, ids) -> outboxMapper.markFailed(ids, now.plusNanos(backoff * 1_000_000)));
+        failedCounter.increment(rows.size() - parked.size());
+        if (!parked.isEmpty()) {
+            outboxMapper.park(parked);
+            parkedCounter.increment(parked.size());
+            log.error("검색 색인 재시도 한도 초과로 보류 - 건수: {}, outboxIds: {}", parked.size(), parked);
+        }
+        log.error("검색 색인 실패 - 건수: {}, 에러: {}", rows.size(), reason);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.funding.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ssafy.funding.common.util.JsonConverter;
 import com.ssafy.funding.dto.funding.request.FundingUpdateRequestDto;
 import com.ssafy.funding.dto.funding.request.FundingUpdateSendDto;
@@ -81,6 +82,7 @@ public class Funding {
         return this;
     }
 
+    @JsonIgnore
     public List<String> getImageUrlList() {
         if (this.imageUrls == null || this.imageUrls.isEmpty()) {
             return Collections.emptyList();
@@ -0,0 +1,59 @@
+package com.ssafy.funding.entity;
+
+import com.ssafy.funding.dto.funding.response.GetFundingResponseDto;
+import com.ssafy.funding.entity.enums.Category;
+import com.ssafy.funding.entity.enums.Status;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 펀딩 목록 카드 조회용 projection
+ * - 카드에 표시하는 컬럼만 조회하며, 설명은 앞부분만, 이미지는 첫 번째 URL(썸네일)만 SQL 에서 꺼내 옵니다.
+ * - 이미지 JSON 파싱 없이 매핑되며, 응답 형식은 GetFundingResponseDto 와 같습니다.
+ */
+@Getter
+@NoArgsConstructor
+public class FundingCard {
+
+    private int fundingId;
+    private int sellerId;
+    private String title;
+    private String description;
+    private String thumbnailUrl;
+    private int price;
+    private int quantity;
+    private int targetAmount;
+    private int currentAmount;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    private Status status;
+    private Category category;
+
+    public List<String> getImageUrls() {
+        return thumbnailUrl == null ? List.of() : List.of(thumbnailUrl);
+    }
+
+    public GetFundingResponseDto toDto() {
+        return GetFundingResponseDto
+                .builder()
+                .fundingId(fundingId)
+                .sellerId(sellerId)
+                .title(title)
+                .imageUrls(getImageUrls())
+                .description(description)
+                .price(price)
+                .quantity(quantity)
+                .targetAmount(targetAmount)
+                .currentAmount(currentAmount)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(status)
+                .category(category)
+                .rate( (int) ((double) currentAmount / targetAmount * 100) )
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.funding.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 아웃박스 (funding_search_outbox)
+ * - 펀딩 변경과 같은 트랜잭션에서 기록되고, FundingSearchIndexer 가 모아서 Elasticsearch 에 bulk 반영합니다.
+ * - 문서 내용은 담지 않고 색인 시점에 펀딩을 다시 읽어, 같은 펀딩의 여러 변경이 최신 상태 한 번으로 합쳐집니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FundingSearchOutbox {
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+
+    private long outboxId;
+    private int fundingId;
+    private Operation operation;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+
+    private FundingSearchOutbox(int fundingId, Operation operation) {
+        this.fundingId = fundingId;
+        this.operation = operation;
+    }
+
+    public static FundingSearchOutbox upsert(int fundingId) {
+        return new FundingSearchOutbox(fundingId, Operation.UPSERT);
+    }
+
+    public static FundingSearchOutbox delete(int fundingId) {
+        return new FundingSearchOutbox(fundingId, Operation.DELETE);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy.funding.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 펀딩별 집계 읽기 모델 (funding_stats)
+ * - 리뷰/찜/주문 쓰기 경로에서 증감으로 유지하고, FundingStatsReconciler 가 매일 원본 집계와 맞춥니다.
+ */
+@Getter
+@NoArgsConstructor
+public class FundingStats {
+
+    private int fundingId;
+    private int reviewCount;
+    private long ratingSum;
+    private int wishCount;
+    private int orderCount;
+    private int buyerCount;
+
+    // 별점 분포 (1~5점 리뷰 수)
+    private int rating1;
+    private int rating2;
+    private int rating3;
+    private int rating4;
+    private int rating5;
+
+    // 평균 평점 (리뷰가 없으면 0)
+    public float averageRating() {
+        return reviewCount == 0 ? 0f : (float) ratingSum / reviewCount;
+    }
+
+    // 별점(1~5) → 리뷰 수
+    public Map<Integer, Integer> ratingHistogram() {
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        histogram.put(1, rating1);
+        histogram.put(2, rating2);
+        histogram.put(3, rating3);
+        histogram.put(4, rating4);
+        histogram.put(5, rating5);
+        return histogram;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.funding.event;
+
+import com.ssafy.funding.entity.enums.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 펀딩 변경 이벤트 (애플리케이션 내부 이벤트)
+ * - 펀딩 생성/수정/삭제, 모금액 반영, 찜 변경 시 발행되며 목록 캐시 무효화 등에 사용됩니다.
+ * - categories 에는 영향을 받는 카테고리(수정 시 변경 전/후)가 담기며, 알 수 없으면 비어 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FundingChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, AMOUNT_CHANGED, WISH_CHANGED
+    }
+
+    private final ChangeType type;
+    private final int fundingId;
+    private final List<Category> categories;
+
+    public static FundingChangedEvent created(int fundingId, Category category) {
+        return new FundingChangedEvent(ChangeType.CREATED, fundingId, categoriesOf(category));
+    }
+
+    public static FundingChangedEvent updated(int fundingId, Category before, Category after) {
+        return new FundingChangedEvent(ChangeType.UPDATED, fundingId, categoriesOf(before, after));
+    }
+
+    public static FundingChangedEvent deleted(int fundingId, Category category) {
+        return new FundingChangedEvent(ChangeType.DELETED, fundingId, categoriesOf(category));
+    }
+
+    public static FundingChangedEvent amountChanged(int fundingId) {
+        return new FundingChangedEvent(ChangeType.AMOUNT_CHANGED, fundingId, List.of());
+    }
+
+    public static FundingChangedEvent wishChanged(int fundingId) {
+        return new FundingChangedEvent(ChangeType.WISH_CHANGED, fundingId, List.of());
+    }
+
+    private static List<Category> categoriesOf(Category... categories) {
+        return Stream.of(categories).filter(Objects::nonNull).distinct().toList();
+    }
+}
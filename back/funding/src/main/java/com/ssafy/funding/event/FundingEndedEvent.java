@@ -0,0 +1,24 @@
+package com.ssafy.funding.event;
+
+import com.ssafy.funding.entity.enums.Category;
+import com.ssafy.funding.entity.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 펀딩 종료 이벤트 (애플리케이션 내부 이벤트)
+ * - 종료일이 지나 ONGOING → SUCCESS/FAIL 로 전환된 펀딩을 배치 단위로 담아 커밋 이후 전달합니다.
+ * - 목록 캐시 무효화, 랭킹 제거, 정산 이벤트 발행에 사용됩니다. (검색 색인은 같은 트랜잭션의 아웃박스로 반영)
+ */
+@Getter
+@AllArgsConstructor
+public class FundingEndedEvent {
+
+    public record EndedFunding(int fundingId, int sellerId, Category category, Status status, LocalDateTime endDate) {
+    }
+
+    private final List<EndedFunding> fundings;
+}
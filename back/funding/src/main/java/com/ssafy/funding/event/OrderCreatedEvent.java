@@ -0,0 +1,23 @@
+package com.ssafy.funding.event;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * order 서비스가 발행하는 주문 생성 이벤트 (order-created 토픽, key = fundingId)
+ * - com.order.event.OrderCreatedEvent 를 KafkaConfig 의 타입 매핑으로 이 클래스로 역직렬화합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderCreatedEvent {
+    private int orderId;
+    private int userId;
+    private int fundingId;
+    private int totalPrice;
+    private boolean firstOrder;        // 해당 펀딩에 대한 사용자의 첫 주문 여부 (구매자 수 집계용)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,317 @@
+package com.ssafy.funding.leaderboard;
+
+import com.ssafy.funding.common.exception.CustomException;
+import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingWishCount;
+import com.ssafy.funding.entity.enums.Category;
+import com.ssafy.funding.entity.enums.Status;
+import com.ssafy.funding.event.FundingChangedEvent;
+import com.ssafy.funding.event.FundingEndedEvent;
+import com.ssafy.funding.mapper.FundingMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.ssafy.funding.common.response.ResponseCode.LEADERBOARD_REBUILD_IN_PROGRESS;
+
+/**
+ * 펀딩 랭킹 (Redis Sorted Set)
+ * - 달성률(rate), 모금액(amount) 두 지표를 전체(ALL)와 카테고리별로, 찜 수(wish)는 전체만 유지합니다.
+ *   funding:rank:{rate|amount}:{ALL|카테고리}, funding:rank:wish:ALL
+ * - 대상은 진행 중(ONGOING)이고 종료일이 지나지 않은 펀딩이며, 종료 시각은 funding:rank:end 에 score 로 기록해
+ *   마감임박 범위 조회와 종료 펀딩 정리에 사용합니다.
+ * - 모금액 반영은 Lua 스크립트로 전체/카테고리 ZSET 을 한 번에 갱신하므로 지표 간 값이 어긋나지 않습니다.
+ * - Redis 반영에 실패해도 주문/펀딩 변경은 그대로 진행하며, rebuild 로 MySQL 기준 재구성합니다.
+ */
+@Slf4j
+@Component
+public class FundingLeaderboard {
+
+    public static final String RATE = "rate";
+    public static final String AMOUNT = "amount";
+    public static final String WISH = "wish";
+    private static final String ALL = "ALL";
+    private static final String KEY_PREFIX = "funding:rank:";
+    private static final String META_KEY = KEY_PREFIX + "meta";
+    private static final String END_KEY = KEY_PREFIX + "end";
+    private static final String STAGING_PREFIX = KEY_PREFIX + "rebuild:";
+
+    // 메타(카테고리, 목표 금액)에 등록된 펀딩만 모금액/달성률 갱신, 미등록이면 0 반환
+    // 단일 Redis 노드 기준으로 카테고리 키를 스크립트 안에서 만듦
+    private static final RedisScript<Long> ADD_AMOUNT_SCRIPT = new DefaultRedisScript<>("""
+            local meta = redis.call('HGET', KEYS[1], ARGV[1])
+            if not meta then return 0 end
+            local sep = string.find(meta, ':', 1, true)
+            local category = string.sub(meta, 1, sep - 1)
+            local target = tonumber(string.sub(meta, sep + 1))
+            local amount = tonumber(redis.call('ZINCRBY', ARGV[3] .. 'amount:ALL', ARGV[2], ARGV[1]))
+            redis.call('ZADD', ARGV[3] .. 'amount:' .. category, amount, ARGV[1])
+            local rate = 0
+            if target > 0 then rate = amount * 100 / target end
+            redis.call('ZADD', ARGV[3] .. 'rate:ALL', rate, ARGV[1])
+            redis.call('ZADD', ARGV[3] .. 'rate:' .. category, rate, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FundingMapper fundingMapper;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public FundingLeaderboard(RedisTemplate<String, String> redisTemplate, FundingMapper fundingMapper) {
+        this.redisTemplate = redisTemplate;
+        this.fundingMapper = fundingMapper;
+    }
+
+    private static String rankKey(String prefix, String metric, String category) {
+        return prefix + metric + ":" + category;
+    }
+
+    private static List<String> scopes() {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(ALL);
+        for (Category category : Category.values()) scopes.add(category.name());
+        return scopes;
+    }
+
+    // 랭킹이 구성되어 있는지 (구성 전이면 호출 측에서 MySQL 조회)
+    public boolean isReady() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(META_KEY)) && !rebuilding.get();
+        } catch (RuntimeException e) {
+            log.warn("펀딩 랭킹 조회 불가 - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 상위 펀딩 ID 를 점수 내림차순으로 조회합니다.
+     *
+     * @param metric   rate 또는 amount
+     * @param category 카테고리 (null 이면 전체)
+     */
+    public List<Integer> topIds(String metric, String category, long offset, long size) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRange(rankKey(KEY_PREFIX, metric, category == null ? ALL : category), offset, offset + size - 1);
+        if (members == null) return List.of();
+        return members.stream().map(Integer::valueOf).toList();
+    }
+
+    // 주문 모금액 반영 : 랭킹 대상이 아니면 무시
+    public void addAmount(int fundingId, int amount) {
+        try {
+            redisTemplate.execute(ADD_AMOUNT_SCRIPT, List.of(META_KEY),
+                    String.valueOf(fundingId), String.valueOf(amount), KEY_PREFIX);
+        } catch (RuntimeException e) {
+            log.warn("펀딩 랭킹 모금액 반영 실패 - fundingId: {}, error: {}", fundingId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시각이 [from, to] 인 펀딩 ID 를 종료 시각 오름차순으로 조회합니다. (마감임박)
+     */
+    public List<Integer> closingIds(LocalDateTime from, LocalDateTime to, long offset, long size) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(END_KEY, epochMillis(from), epochMillis(to), offset, size);
+        if (members == null) return List.of();
+        return members.stream().map(Integer::valueOf).toList();
+    }
+
+    // 생성/수정은 DB 값 기준으로 다시 등록, 삭제는 제거, 찜 변경은 DB 찜 수로 갱신 (커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFundingChanged(FundingChangedEvent event) {
+        try {
+            switch (event.getType()) {
+                case CREATED, UPDATED -> {
+                    // 랭킹 구성 전이면 재구성 시 함께 반영됨
+                    if (!Boolean.TRUE.equals(redisTemplate.hasKey(META_KEY))) return;
+                    Funding funding = fundingMapper.findById(event.getFundingId());
+                    if (funding != null && isRankable(funding)) register(funding, fundingMapper.getWishCount(funding.getFundingId()));
+                    else remove(List.of(String.valueOf(event.getFundingId())));
+                }
+                case DELETED -> remove(List.of(String.valueOf(event.getFundingId())));
+                case WISH_CHANGED -> updateWishCount(event.getFundingId());
+                default -> { }
+            }
+        } catch (RuntimeException e) {
+            log.warn("펀딩 랭킹 갱신 실패 - fundingId: {}, error: {}", event.getFundingId(), e.getMessage());
+        }
+    }
+
+    // 종료 전환된 펀딩은 정리 주기를 기다리지 않고 바로 제거
+    @TransactionalEventListener
+    public void onFundingEnded(FundingEndedEvent event) {
+        try {
+            remove(event.getFundings().stream().map(funding -> String.valueOf(funding.fundingId())).toList());
+        } catch (RuntimeException e) {
+            log.warn("펀딩 랭킹 종료 반영 실패 - count: {}, error: {}", event.getFundings().size(), e.getMessage());
+        }
+    }
+
+    private static boolean isRankable(Funding funding) {
+        return funding.getStatus() == Status.ONGOING
+                && funding.getEndDate() != null && funding.getEndDate().isAfter(LocalDateTime.now());
+    }
+
+    // 랭킹 대상(메타 등록)인 펀딩만 갱신
+    public void updateWishCount(int fundingId) {
+        String member = String.valueOf(fundingId);
+        if (!redisTemplate.opsForHash().hasKey(META_KEY, member)) return;
+        Integer wishCount = fundingMapper.getWishCount(fundingId);
+        if (wishCount != null) redisTemplate.opsForZSet().add(rankKey(KEY_PREFIX, WISH, ALL), member, wishCount);
+    }
+
+    private void register(Funding funding, Integer wishCount) {
+        String member = String.valueOf(funding.getFundingId());
+        String category = funding.getCategory().name();
+        // 카테고리가 바뀌었을 수 있으므로 기존 항목 제거 후 등록
+        remove(List.of(member));
+
+        double rate = rateOf(funding.getCurrentAmount(), funding.getTargetAmount());
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        zSet.add(rankKey(KEY_PREFIX, AMOUNT, ALL), member, funding.getCurrentAmount());
+        zSet.add(rankKey(KEY_PREFIX, AMOUNT, category), member, funding.getCurrentAmount());
+        zSet.add(rankKey(KEY_PREFIX, RATE, ALL), member, rate);
+        zSet.add(rankKey(KEY_PREFIX, RATE, category), member, rate);
+        zSet.add(rankKey(KEY_PREFIX, WISH, ALL), member, wishCount == null ? 0 : wishCount);
+        zSet.add(END_KEY, member, epochMillis(funding.getEndDate()));
+        redisTemplate.opsForHash().put(META_KEY, member, category + ":" + funding.getTargetAmount());
+    }
+
+    private void remove(List<String> members) {
+        if (members.isEmpty()) return;
+        Object[] values = members.toArray();
+        for (String scope : scopes()) {
+            redisTemplate.opsForZSet().remove(rankKey(KEY_PREFIX, AMOUNT, scope), values);
+            redisTemplate.opsForZSet().remove(rankKey(KEY_PREFIX, RATE, scope), values);
+        }
+        redisTemplate.opsForZSet().remove(rankKey(KEY_PREFIX, WISH, ALL), values);
+        redisTemplate.opsForZSet().remove(END_KEY, values);
+        redisTemplate.opsForHash().delete(META_KEY, values);
+    }
+
+    // 종료된 펀딩 제거
+    @Scheduled(fixedDelayString = "${funding.leaderboard.prune-interval-ms:60000}")
+    public void pruneEnded() {
+        if (rebuilding.get()) return;
+        try {
+            Set<String> ended = redisTemplate.opsForZSet().rangeByScore(END_KEY, 0, System.currentTimeMillis());
+            if (ended == null || ended.isEmpty()) return;
+            remove(new ArrayList<>(ended));
+            log.info("종료된 펀딩 랭킹 제거 - count: {}", ended.size());
+        } catch (RuntimeException e) {
+            log.warn("펀딩 랭킹 정리 실패 - {}", e.getMessage());
+        }
+    }
+
+    // 기동 시 랭킹이 없으면 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(META_KEY))) rebuild();
+        } catch (RuntimeException e) {
+            log.warn("펀딩 랭킹 초기 구성 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * MySQL 기준으로 전체 랭킹을 재구성합니다.
+     * 임시 키에 모두 만든 뒤 RENAME 으로 교체하므로 조회 중에도 빈 랭킹이 보이지 않습니다.
+     * 재구성 중 반영된 모금액은 유실될 수 있어 트래픽이 적은 시간에 실행합니다.
+     *
+     * @return 등록된 펀딩 수
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) throw new CustomException(LEADERBOARD_REBUILD_IN_PROGRESS);
+        try {
+            List<FundingWishCount> fundings = fundingMapper.findRankableFundings();
+
+            Map<String, Set<ZSetOperations.TypedTuple<String>>> ranks = new HashMap<>();
+            Set<ZSetOperations.TypedTuple<String>> ends = new HashSet<>();
+            Map<String, String> meta = new HashMap<>();
+            for (FundingWishCount funding : fundings) {
+                String member = String.valueOf(funding.getFundingId());
+                String category = funding.getCategory().name();
+                double amount = funding.getCurrentAmount();
+                double rate = rateOf(funding.getCurrentAmount(), funding.getTargetAmount());
+                for (String scope : List.of(ALL, category)) {
+                    ranks.computeIfAbsent(rankKey(STAGING_PREFIX, AMOUNT, scope), k -> new HashSet<>())
+                            .add(new DefaultTypedTuple<>(member, amount));
+                    ranks.computeIfAbsent(rankKey(STAGING_PREFIX, RATE, scope), k -> new HashSet<>())
+                            .add(new DefaultTypedTuple<>(member, rate));
+                }
+                ranks.computeIfAbsent(rankKey(STAGING_PREFIX, WISH, ALL), k -> new HashSet<>())
+                        .add(new DefaultTypedTuple<>(member, (double) funding.getWishCount()));
+                ends.add(new DefaultTypedTuple<>(member, (double) epochMillis(funding.getEndDate())));
+                meta.put(member, category + ":" + funding.getTargetAmount());
+            }
+
+            ranks.forEach((key, tuples) -> {
+                redisTemplate.delete(key);
+                redisTemplate.opsForZSet().add(key, tuples);
+            });
+            swap(ranks.keySet(), ends, meta);
+            log.info("펀딩 랭킹 재구성 완료 - count: {}", fundings.size());
+            return fundings.size();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void swap(Set<String> stagedRankKeys,
+                      Set<ZSetOperations.TypedTuple<String>> ends,
+                      Map<String, String> meta) {
+        List<String[]> rankKeys = new ArrayList<>();
+        for (String scope : scopes()) {
+            rankKeys.add(new String[]{AMOUNT, scope});
+            rankKeys.add(new String[]{RATE, scope});
+        }
+        rankKeys.add(new String[]{WISH, ALL});
+        for (String[] rankKey : rankKeys) {
+            String staged = rankKey(STAGING_PREFIX, rankKey[0], rankKey[1]);
+            String live = rankKey(KEY_PREFIX, rankKey[0], rankKey[1]);
+            if (stagedRankKeys.contains(staged)) redisTemplate.rename(staged, live);
+            else redisTemplate.delete(live);
+        }
+
+        String stagedEnd = STAGING_PREFIX + "end";
+        redisTemplate.delete(stagedEnd);
+        if (ends.isEmpty()) redisTemplate.delete(END_KEY);
+        else {
+            redisTemplate.opsForZSet().add(stagedEnd, ends);
+            redisTemplate.rename(stagedEnd, END_KEY);
+        }
+
+        // 메타 키는 랭킹 구성 완료 표시도 겸하므로 비어 있어도 남김
+        String stagedMeta = STAGING_PREFIX + "meta";
+        redisTemplate.delete(stagedMeta);
+        meta.put("", "");
+        redisTemplate.opsForHash().putAll(stagedMeta, meta);
+        redisTemplate.rename(stagedMeta, META_KEY);
+    }
+
+    private static double rateOf(int currentAmount, int targetAmount) {
+        return targetAmount > 0 ? currentAmount * 100.0 / targetAmount : 0;
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,293 @@
+package com.ssafy.funding.lifecycle;
+
+import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingSearchOutbox;
+import com.ssafy.funding.entity.enums.Status;
+import com.ssafy.funding.event.FundingChangedEvent;
+import com.ssafy.funding.event.FundingEndedEvent;
+import com.ssafy.funding.mapper.FundingMapper;
+import com.ssafy.funding.mapper.FundingSearchOutboxMapper;
+import com.ssafy.funding.service.impl.FundingAmountAccumulator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 펀딩 종료 처리 엔진 (ONGOING → SUCCESS/FAIL)
+ * - horizon-minutes 안에 종료되는 펀딩을 주기적으로 DB 에서 읽어 계층형 타이밍 휠에 등록하고,
+ *   tick-ms 마다 휠을 진행해 종료된 펀딩을 batch-size 단위로 한 번에 전환합니다.
+ * - 전환은 종료일이 지난 ONGOING 행만 잠금(SKIP LOCKED) 후 갱신하므로 여러 인스턴스가 동시에 실행하거나
+ *   종료일이 바뀐 펀딩이 일찍 꺼내져도 한 번만, 올바른 시점에만 전환됩니다.
+ * - 같은 트랜잭션에 검색 색인 아웃박스를 기록하고, 커밋 이후 FundingEndedEvent 로 캐시/랭킹/정산에 알립니다.
+ * - 기동 시 종료일이 지났는데 진행 중인 펀딩을 먼저 모두 전환합니다.
+ * - 주문 모금액은 order-created 이벤트 컨슈머가 비동기로 반영하므로, 종료일 + settle-grace-seconds 가 지난 뒤에
+ *   write-behind 누적분까지 반영을 마치고 판정합니다. 그 이후 도착한 종료일 이전 주문으로 목표를 넘기면
+ *   reevaluateLateOrder 가 FAIL 을 SUCCESS 로 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class FundingLifecycleEngine {
+
+    private static final int WHEEL_SIZE = 60;
+
+    private final FundingMapper fundingMapper;
+    private final FundingSearchOutboxMapper outboxMapper;
+    private final FundingAmountAccumulator fundingAmountAccumulator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long tickMs;
+    private final Duration horizon;
+    private final Duration settleGrace;
+    private final int batchSize;
+
+    // 휠은 엔진 스레드에서만 다루고, 다른 스레드의 등록 요청은 큐를 거침
+    private final ScheduledExecutorService engineExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "funding-lifecycle");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Queue<HierarchicalTimingWheel.Entry<Integer>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduledCount = new AtomicInteger();
+    private HierarchicalTimingWheel<Integer> wheel;
+    private volatile LocalDateTime loadedUntil;
+
+    private final Counter successCounter;
+    private final Counter failCounter;
+    private final Counter lateSuccessCounter;
+    private final Timer transitionLagTimer;
+
+    public FundingLifecycleEngine(FundingMapper fundingMapper,
+                                  FundingSearchOutboxMapper outboxMapper,
+                                  FundingAmountAccumulator fundingAmountAccumulator,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${funding.lifecycle.tick-ms:1000}") long tickMs,
+                                  @Value("${funding.lifecycle.horizon-minutes:60}") long horizonMinutes,
+                                  @Value("${funding.lifecycle.settle-grace-seconds:120}") long settleGraceSeconds,
+                                  @Value("${funding.lifecycle.batch-size:1000}") int batchSize) {
+        this.fundingMapper = fundingMapper;
+        this.outboxMapper = outboxMapper;
+        this.fundingAmountAccumulator = fundingAmountAccumulator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tickMs = tickMs;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+        this.settleGrace = Duration.ofSeconds(settleGraceSeconds);
+        this.batchSize = batchSize;
+
+        this.successCounter = Counter.builder("funding.lifecycle.transitions").tag("status", Status.SUCCESS.name()).register(meterRegistry);
+        this.failCounter = Counter.builder("funding.lifecycle.transitions").tag("status", Status.FAIL.name()).register(meterRegistry);
+        this.lateSuccessCounter = Counter.builder("funding.lifecycle.late-success").register(meterRegistry);
+        this.transitionLagTimer = Timer.builder("funding.lifecycle.lag").register(meterRegistry);
+        Gauge.builder("funding.lifecycle.scheduled", scheduledCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        engineExecutor.execute(() -> {
+            wheel = new HierarchicalTimingWheel<>(tickMs, WHEEL_SIZE, System.currentTimeMillis());
+            // 휠 시작 이후 종료분은 휠에서 처리되므로, 밀린 종료 처리 전에 적재 구간의 시작을 고정
+            loadedUntil = LocalDateTime.now();
+            try {
+                catchUp();
+                loadUpcoming();
+            } catch (RuntimeException e) {
+                log.warn("펀딩 종료 엔진 초기화 실패, 다음 적재 주기에 재시도 - {}", e.getMessage());
+            }
+        });
+        engineExecutor.scheduleAtFixedRate(this::safeTick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        long reloadMs = Math.max(horizon.toMillis() / 2, tickMs);
+        engineExecutor.scheduleWithFixedDelay(this::safeLoadUpcoming, reloadMs, reloadMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        engineExecutor.shutdownNow();
+    }
+
+    // 이미 적재된 구간 안으로 종료일이 생기거나 바뀐 펀딩은 휠에 추가 (중복 등록돼도 전환은 한 번)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFundingChanged(FundingChangedEvent event) {
+        if (event.getType() != FundingChangedEvent.ChangeType.CREATED
+                && event.getType() != FundingChangedEvent.ChangeType.UPDATED) return;
+        LocalDateTime until = loadedUntil;
+        if (until == null) return;
+
+        Funding funding = fundingMapper.findById(event.getFundingId());
+        if (funding == null || funding.getStatus() != Status.ONGOING || funding.getEndDate() == null) return;
+        if (funding.getEndDate().isAfter(until)) return;
+        incoming.add(new HierarchicalTimingWheel.Entry<>(settleAt(funding.getEndDate()), funding.getFundingId()));
+    }
+
+    // 밀린 종료 처리 : 종료일이 지난 진행 중 펀딩이 없어질 때까지 배치 전환
+    private void catchUp() {
+        int total = 0;
+        List<Integer> overdue;
+        do {
+            overdue = fundingMapper.findOverdueFundingIds(batchSize, settleCutoff());
+            if (overdue.isEmpty()) break;
+            int transitioned = transition(overdue);
+            total += transitioned;
+            // 다른 인스턴스가 잠근 행만 남았으면 그 인스턴스가 처리
+            if (transitioned == 0) break;
+        } while (overdue.size() == batchSize);
+        if (total > 0) log.info("밀린 펀딩 종료 처리 - count: {}", total);
+    }
+
+    // 적재 주기마다 밀린 종료도 함께 확인 (초기화 실패, 재시도 누락 대비)
+    private void safeLoadUpcoming() {
+        try {
+            catchUp();
+            loadUpcoming();
+        } catch (RuntimeException e) {
+            log.warn("종료 예정 펀딩 적재 실패 - {}", e.getMessage());
+        }
+    }
+
+    // (loadedUntil, now + horizon] 구간에 종료되는 펀딩을 휠에 등록
+    private void loadUpcoming() {
+        LocalDateTime from = loadedUntil;
+        LocalDateTime to = LocalDateTime.now().plus(horizon);
+        List<Funding> ending = fundingMapper.findEndingFundings(from, to);
+        for (Funding funding : ending) {
+            incoming.add(new HierarchicalTimingWheel.Entry<>(settleAt(funding.getEndDate()), funding.getFundingId()));
+        }
+        loadedUntil = to;
+        log.debug("종료 예정 펀딩 적재 - count: {}, until: {}", ending.size(), to);
+    }
+
+    private void safeTick() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("펀딩 종료 처리 실패, 다음 틱에 재시도 - {}", e.getMessage());
+        }
+    }
+
+    private void tick() {
+        if (wheel == null) return;
+        Set<Integer> due = new LinkedHashSet<>();
+        HierarchicalTimingWheel.Entry<Integer> entry;
+        while ((entry = incoming.poll()) != null) {
+            if (!wheel.add(entry)) due.add(entry.value());
+        }
+        wheel.advance(System.currentTimeMillis(), expired -> due.add(expired.value()));
+        scheduledCount.set(wheel.size());
+        if (due.isEmpty()) return;
+
+        List<Integer> fundingIds = new ArrayList<>(due);
+        try {
+            for (int from = 0; from < fundingIds.size(); from += batchSize) {
+                transition(fundingIds.subList(from, Math.min(from + batchSize, fundingIds.size())));
+            }
+        } catch (RuntimeException e) {
+            // 다음 틱에 다시 꺼내지도록 되돌림 (이미 전환된 펀딩은 잠금 조회에서 빠짐)
+            long now = System.currentTimeMillis();
+            fundingIds.forEach(fundingId -> incoming.add(new HierarchicalTimingWheel.Entry<>(now, fundingId)));
+            throw e;
+        }
+    }
+
+    /**
+     * 종료일이 지난 진행 중 펀딩을 목표 달성 여부에 따라 SUCCESS/FAIL 로 전환합니다.
+     *
+     * @return 전환된 펀딩 수
+     */
+    private int transition(List<Integer> fundingIds) {
+        // write-behind 모드면 미반영 모금액을 먼저 DB 에 반영해야 달성 여부가 정확함 (실패하면 전환하지 않고 다음 틱에 재시도)
+        fundingAmountAccumulator.flushOrThrow();
+
+        LocalDateTime cutoff = settleCutoff();
+        Integer transitioned = transactionTemplate.execute(status -> {
+            List<Funding> ended = fundingMapper.lockEndedFundings(fundingIds, cutoff);
+            if (ended.isEmpty()) return 0;
+
+            List<Integer> succeeded = new ArrayList<>();
+            List<Integer> failed = new ArrayList<>();
+            List<FundingEndedEvent.EndedFunding> events = new ArrayList<>(ended.size());
+            List<FundingSearchOutbox> outboxes = new ArrayList<>(ended.size());
+            for (Funding funding : ended) {
+                Status result = funding.getCurrentAmount() >= funding.getTargetAmount() ? Status.SUCCESS : Status.FAIL;
+                (result == Status.SUCCESS ? succeeded : failed).add(funding.getFundingId());
+                events.add(new FundingEndedEvent.EndedFunding(funding.getFundingId(), funding.getSellerId(),
+                        funding.getCategory(), result, funding.getEndDate()));
+                outboxes.add(FundingSearchOutbox.upsert(funding.getFundingId()));
+            }
+
+            if (!succeeded.isEmpty()) fundingMapper.updateStatusByIds(succeeded, Status.SUCCESS.name());
+            if (!failed.isEmpty()) fundingMapper.updateStatusByIds(failed, Status.FAIL.name());
+            outboxMapper.insertAll(outboxes);
+            eventPublisher.publishEvent(new FundingEndedEvent(events));
+
+            successCounter.increment(succeeded.size());
+            failCounter.increment(failed.size());
+            LocalDateTime now = LocalDateTime.now();
+            ended.forEach(funding -> transitionLagTimer.record(Duration.between(funding.getEndDate(), now)));
+            return ended.size();
+        });
+        return transitioned == null ? 0 : transitioned;
+    }
+
+    /**
+     * 유예 시간 이후 도착한 주문 재확인
+     * - 종료일 이전에 결제된 주문이 FAIL 판정 뒤에 반영돼 목표를 넘었으면 SUCCESS 로 바꾸고 종료 이벤트(정산 포함)를 다시 발행합니다.
+     */
+    public void reevaluateLateOrder(int fundingId, LocalDateTime orderedAt) {
+        Funding funding = fundingMapper.findById(fundingId);
+        if (funding == null || funding.getStatus() != Status.FAIL || orderedAt == null
+                || funding.getEndDate() == null || orderedAt.isAfter(funding.getEndDate())) return;
+
+        fundingAmountAccumulator.flushOrThrow();
+        transactionTemplate.executeWithoutResult(status -> {
+            Funding failed = fundingMapper.lockFailedFunding(fundingId);
+            if (failed == null || failed.getCurrentAmount() < failed.getTargetAmount()) return;
+
+            fundingMapper.updateStatusByIds(List.of(fundingId), Status.SUCCESS.name());
+            outboxMapper.insertAll(List.of(FundingSearchOutbox.upsert(fundingId)));
+            eventPublisher.publishEvent(new FundingEndedEvent(List.of(new FundingEndedEvent.EndedFunding(
+                    fundingId, failed.getSellerId(), failed.getCategory(), Status.SUCCESS, failed.getEndDate()))));
+            lateSuccessCounter.increment();
+            log.warn("종료 판정 이후 반영된 주문으로 SUCCESS 전환 - fundingId: {}, orderedAt: {}", fundingId, orderedAt);
+        });
+    }
+
+    // 이 시각 이전에 종료된 펀딩만 판정 (비동기 주문 반영이 따라올 시간)
+    private LocalDateTime settleCutoff() {
+        return LocalDateTime.now().minus(settleGrace);
+    }
+
+    private long settleAt(LocalDateTime endDate) {
+        return epochMillis(endDate.plus(settleGrace));
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ssafy.funding.lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠
+ * - 최하위 휠은 tickMs 단위 버킷 wheelSize 개로 tickMs * wheelSize 범위를 담당하고,
+ *   그보다 먼 마감은 범위가 wheelSize 배씩 큰 상위 휠에 넣어 두었다가 시간이 가까워지면 하위 휠로 내려보냅니다.
+ * - 등록/만료 모두 버킷 단위 O(1) 이라 같은 시각에 많은 마감이 몰려도 우선순위 큐 재정렬 비용이 없습니다.
+ * - 항목은 마감이 속한 틱이 끝날 때 만료되므로 마감보다 먼저 만료되지 않고, 최대 tickMs 늦게 만료됩니다.
+ * - 스레드 안전하지 않으므로 한 스레드에서만 사용합니다.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    record Entry<T>(long deadlineMs, T value) {
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final List<List<Entry<T>>> buckets;
+    private long currentTime;
+    private HierarchicalTimingWheel<T> overflowWheel;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) buckets.add(new ArrayList<>());
+    }
+
+    int size() {
+        int total = size;
+        if (overflowWheel != null) total += overflowWheel.size();
+        return total;
+    }
+
+    /**
+     * 마감을 등록합니다.
+     *
+     * @return 마감이 현재 틱 이전이라 이미 지난 항목이면 false (호출 측에서 즉시 처리)
+     */
+    boolean add(Entry<T> entry) {
+        long deadline = entry.deadlineMs();
+        // 현재 틱 안의 마감은 현재 버킷에 넣어 틱이 끝날 때 만료 (상위 휠에서 내려온 항목이 마감 전에 만료되지 않게 함)
+        if (deadline < currentTime) return false;
+
+        if (deadline < currentTime + interval) {
+            buckets.get(bucketIndex(deadline)).add(entry);
+            size++;
+            return true;
+        }
+        if (overflowWheel == null) overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTime);
+        return overflowWheel.add(entry);
+    }
+
+    /**
+     * 시계를 nowMs 까지 틱 단위로 진행하며, 지나간 버킷의 항목을 expired 로 넘깁니다.
+     * 상위 휠의 버킷은 해당 구간에 들어서는 시점에 하위 휠로 다시 등록됩니다.
+     */
+    void advance(long nowMs, Consumer<Entry<T>> expired) {
+        while (currentTime + tickMs <= nowMs) {
+            List<Entry<T>> due = drain(bucketIndex(currentTime));
+            currentTime += tickMs;
+            due.forEach(expired);
+            if (overflowWheel != null) overflowWheel.cascade(currentTime, entry -> {
+                if (!add(entry)) expired.accept(entry);
+            });
+        }
+    }
+
+    // 상위 휠 : 하위 휠 시각이 자신의 다음 틱에 도달하면 그 버킷을 하위로 내려보냄
+    private void cascade(long lowerTime, Consumer<Entry<T>> reinsert) {
+        while (currentTime + tickMs <= lowerTime) {
+            currentTime += tickMs;
+            drain(bucketIndex(currentTime)).forEach(reinsert);
+            if (overflowWheel != null) overflowWheel.cascade(currentTime, reinsert);
+        }
+    }
+
+    private List<Entry<T>> drain(int index) {
+        List<Entry<T>> bucket = buckets.get(index);
+        if (bucket.isEmpty()) return List.of();
+        buckets.set(index, new ArrayList<>());
+        size -= bucket.size();
+        return bucket;
+    }
+
+    private int bucketIndex(long timeMs) {
+        return (int) ((timeMs / tickMs) % wheelSize);
+    }
+}
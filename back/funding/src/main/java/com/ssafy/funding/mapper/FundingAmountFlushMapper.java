@@ -0,0 +1,22 @@
+package com.ssafy.funding.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Mapper
+public interface FundingAmountFlushMapper {
+
+    // 반영한 배치 기록 (이미 반영된 배치면 PK 중복)
+    void insertFlushLog(@Param("batchId") String batchId);
+
+    boolean existsFlushLog(@Param("batchId") String batchId);
+
+    // 펀딩별 누적 증분을 한 문장으로 반영 (fundingId → amount)
+    void addCurrentAmounts(@Param("deltas") Map<Integer, Long> deltas);
+
+    // keepBatchId 는 아직 in-flight 로 남아 있는 배치 (없으면 null)
+    void deleteFlushLogBefore(@Param("before") LocalDateTime before, @Param("keepBatchId") String keepBatchId);
+}
@@ -1,13 +1,17 @@
 package com.ssafy.funding.mapper;
 
+import com.ssafy.funding.dto.funding.request.FundingCursor;
 import com.ssafy.funding.dto.review.response.ReviewDto;
 import com.ssafy.funding.dto.seller.SellerDetailDto;
 import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingCard;
 import com.ssafy.funding.entity.FundingWishCount;
 import com.ssafy.funding.entity.SellerDetail;
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -18,35 +22,69 @@ public interface FundingMapper {
     void updateFunding(Funding funding);
     void deleteFunding(int fundingId);
     List<Funding> findFundingsByIds(List<Integer> fundingIds);
+    List<Funding> findAllByIds(@Param("fundingIds") List<Integer> fundingIds);
+    List<FundingCard> findCardsByIds(@Param("fundingIds") List<Integer> fundingIds);
+    List<Funding> findAmountsByIds(@Param("fundingIds") List<Integer> fundingIds);
+    List<FundingWishCount> findRankableFundings();
+
+    // 펀딩 종료 처리 (FundingLifecycleEngine)
+    List<Funding> findEndingFundings(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    List<Integer> findOverdueFundingIds(@Param("limit") int limit, @Param("cutoff") LocalDateTime cutoff);
+    List<Funding> lockEndedFundings(@Param("fundingIds") List<Integer> fundingIds, @Param("cutoff") LocalDateTime cutoff);
+    Funding lockFailedFunding(@Param("fundingId") int fundingId);
+    void updateStatusByIds(@Param("fundingIds") List<Integer> fundingIds, @Param("status") String status);
+
+    // 전체 재색인용 : 트랜잭션 안에서 순회해야 함
+    Cursor<Funding> streamAll();
+    long countAll();
 
     // 현재까지 펀딩 금액 조회
     Long getTotalFund();
 
     // Top 펀딩 리스트 조회
-    List<Funding> getTopFundingList();
+    List<FundingCard> getTopFundingList();
 
     // 펀딩 페이지 펀딩 조회
-    List<Funding> getFundingPageList(
+    List<FundingCard> getFundingPageList(
             @Param("sort") String sort,
             @Param("categories") List<String> categories,
             @Param("offset") int offset,
             @Param("limit") int limit);
 
+    // 펀딩 페이지 펀딩 키셋(커서) 조회
+    List<FundingCard> getFundingPageListByCursor(
+            @Param("sort") String sort,
+            @Param("categories") List<String> categories,
+            @Param("cursor") FundingCursor cursor,
+            @Param("limit") int limit);
+
     // 펀딩 키워드 검색 조회
-    List<Funding> getSearchFundingList(
+    List<FundingCard> getSearchFundingList(
             @Param("sort") String sort,
             @Param("keyword") String keyword,
+            @Param("category") String category,
             @Param("offset") int offset,
             @Param("limit") int limit);
 
     // 베스트 , 마감임박 펀팅으로 리스트 조회
     List<FundingWishCount> getSpecialFundingList(@Param("topic") String topic, @Param("sort") String sort, @Param("offset") int offset, @Param("limit") int limit);
 
+    // 베스트 , 마감임박 펀딩 키셋(커서) 조회
+    List<FundingWishCount> getSpecialFundingListByCursor(@Param("topic") String topic, @Param("sort") String sort, @Param("cursor") FundingCursor cursor, @Param("limit") int limit);
+    List<FundingWishCount> getSpecialFundingsByIds(@Param("fundingIds") List<Integer> fundingIds);
+
+    // 찜 수 (wish_count) 유지/보정
+    void addWishCount(@Param("fundingId") int fundingId, @Param("delta") int delta);
+    Integer getWishCount(@Param("fundingId") int fundingId);
+    int getMaxFundingId();
+    int recalculateWishCounts(@Param("fromId") int fromId, @Param("toId") int toId);
+    List<Integer> findWishCountDrifts(@Param("fromId") int fromId, @Param("toId") int toId);
+
     // 최신 펀딩 리스트 조회
-    List<Funding> getLatestFundingList(int page);
+    List<FundingCard> getLatestFundingList(int page);
 
     // 카테고리별 펀딩 리스트 조회
-    List<Funding> getCategoryFundingList(@Param("category") String category, @Param("page") int page);
+    List<FundingCard> getCategoryFundingList(@Param("category") String category, @Param("page") int page);
 
     // 브랜드 만족도 조회
     List<ReviewDto> getReviewList(@Param("sellerId") int sellerId, @Param("page") int page);
@@ -62,7 +100,7 @@ public interface FundingMapper {
     List<Funding> getSellerTodayOrderTopThreeList(@Param("fundingIdList") List<Integer> fundingIdList);
 
     // 내가 주문한 펀딩 조회
-    List<Funding> getMyFunding(List<Integer> fundingIds);
+    List<FundingCard> getMyFunding(List<Integer> fundingIds);
     Funding getSellerFundingDetail(@Param("fundingId") int fundingId);
     List<Funding> getSellerTodayOrderTopThree(@Param("fundingIdList") List<Integer> fundingIdList);
 
@@ -0,0 +1,32 @@
+package com.ssafy.funding.mapper;
+
+import com.ssafy.funding.entity.FundingSearchOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface FundingSearchOutboxMapper {
+
+    void insert(FundingSearchOutbox outbox);
+
+    void insertAll(@Param("outboxes") List<FundingSearchOutbox> outboxes);
+
+    // 재시도 시각이 지난 항목을 오래된 순으로 조회
+    List<FundingSearchOutbox> findDue(@Param("limit") int limit);
+
+    void deleteByIds(@Param("outboxIds") List<Long> outboxIds);
+
+    // 실패 항목 재시도 횟수 증가 및 다음 재시도 시각 지정
+    void markFailed(@Param("outboxIds") List<Long> outboxIds, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 재시도 한도를 넘은 항목은 더 꺼내지 않도록 보류 (원인 해결 후 parked_at 을 비워 재처리)
+    void park(@Param("outboxIds") List<Long> outboxIds);
+
+    long countParked();
+
+    // 가장 오래된 미처리 항목 생성 시각 (색인 지연 측정용, 보류 항목 제외)
+    LocalDateTime findOldestCreatedAt();
+}
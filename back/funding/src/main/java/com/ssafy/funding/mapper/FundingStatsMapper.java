@@ -0,0 +1,27 @@
+package com.ssafy.funding.mapper;
+
+import com.ssafy.funding.dto.order.response.FundingOrderStatsResponseDto;
+import com.ssafy.funding.entity.FundingStats;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface FundingStatsMapper {
+
+    // 쓰기 경로 증감 (행이 없으면 생성)
+    void applyReviewChange(@Param("fundingId") int fundingId, @Param("addedRating") int addedRating, @Param("removedRating") int removedRating);
+    void addWish(@Param("fundingId") int fundingId, @Param("delta") int delta);
+    void addOrder(@Param("fundingId") int fundingId, @Param("buyerDelta") int buyerDelta);
+
+    FundingStats findByFundingId(@Param("fundingId") int fundingId);
+
+    // 판매자 전체 리뷰 수/평점 합/별점 분포
+    FundingStats getSellerReviewStats(@Param("sellerId") int sellerId);
+
+    // 정합성 보정 (funding_id 구간 단위)
+    int recalculateReviewAndWish(@Param("fromId") int fromId, @Param("toId") int toId);
+    List<Integer> findFundingIds(@Param("fromId") int fromId, @Param("toId") int toId);
+    int upsertOrderStats(@Param("stats") List<FundingOrderStatsResponseDto> stats);
+}
@@ -0,0 +1,11 @@
+package com.ssafy.funding.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ProcessedOrderEventMapper {
+
+    // 컨슈머별 처리 기록 : 이미 처리한 주문이면 0 을 반환 (반영과 같은 트랜잭션에서 호출)
+    int markProcessed(@Param("consumer") String consumer, @Param("orderId") int orderId);
+}
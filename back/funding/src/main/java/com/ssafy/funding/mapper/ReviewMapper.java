@@ -3,6 +3,7 @@ package com.ssafy.funding.mapper;
 import com.ssafy.funding.dto.review.response.ReviewDto;
 import com.ssafy.funding.entity.Review;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -13,6 +14,10 @@ public interface ReviewMapper {
     List<Review> findByFundingId(int fundingId);
     List<Review> findBySellerId(int sellerId);
     List<ReviewDto> findByUserId(int userId);
+
+    // 키셋(커서) 조회 : cursor(마지막 review_id) 보다 작은 리뷰를 최신순으로 limit 건
+    List<ReviewDto> findPageByFundingId(@Param("fundingId") int fundingId, @Param("cursor") Integer cursor, @Param("limit") int limit);
+    List<ReviewDto> findPageBySellerId(@Param("sellerId") int sellerId, @Param("cursor") Integer cursor, @Param("limit") int limit);
     void updateReview(Review review);
     void deleteReview(int reviewId);
     boolean existsByUserIdAndFundingId(int userId, int fundingId);
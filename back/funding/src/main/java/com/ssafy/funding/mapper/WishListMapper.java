@@ -10,7 +10,7 @@ public interface WishListMapper {
     void createWish(WishList wishList);
     List<WishList> findOngoingByUserId(int userId);
     List<WishList> findDoneByUserId(int userId);
-    void deleteWish(int userId, int fundingId);
+    int deleteWish(int userId, int fundingId);
     boolean existsByUserIdAndFundingId(int userId, int fundingId);
     List<Integer> findFundingIdsByUserId(int userId);
 }
@@ -4,6 +4,7 @@ import com.ssafy.funding.dto.funding.request.FundingCreateRequestDto;
 import com.ssafy.funding.dto.funding.request.FundingCreateSendDto;
 import com.ssafy.funding.dto.funding.request.FundingUpdateRequestDto;
 import com.ssafy.funding.dto.funding.request.FundingUpdateSendDto;
+import com.ssafy.funding.dto.funding.response.CursorPageResponseDto;
 import com.ssafy.funding.dto.funding.response.FundingResponseDto;
 import com.ssafy.funding.dto.funding.response.FundingWishCountResponseDto;
 import com.ssafy.funding.dto.funding.response.GetFundingResponseDto;
@@ -40,12 +41,19 @@ public interface ProductService {
     // 펀딩 페이지 펀딩 리스트 조회
     List<GetFundingResponseDto> getFundingPageList(String sort, int page, List<String> categories);
 
+    // 펀딩 페이지 펀딩 리스트 키셋(커서) 조회
+    CursorPageResponseDto<GetFundingResponseDto> getFundingPageListByCursor(String sort, List<String> categories, String cursor);
+
     // 펀딩 키워드 검색 조회
-    List<GetFundingResponseDto> getSearchFundingList(String sort, String keyword, int page);
+    List<GetFundingResponseDto> getSearchFundingList(String sort, String keyword, String category, int page);
+    CursorPageResponseDto<GetFundingResponseDto> getSearchFundingListByCursor(String sort, String keyword, String category, String cursor);
 
     // 펀딩 검색페이지 토픽 검색 (오늘의 펀딩 마감임박, 오늘의 검색어)
     List<FundingWishCountResponseDto> getSearchSpecialFunding(String sort , String topic, int page);
 
+    // 펀딩 검색페이지 토픽 키셋(커서) 조회
+    CursorPageResponseDto<FundingWishCountResponseDto> getSearchSpecialFundingByCursor(String sort, String topic, String cursor);
+
     // 펀딩 상세 페이지
     GetFundingResponseDto getFundingDetail(int fundingId);
 
@@ -84,7 +92,10 @@ public interface ProductService {
     GetExpectedSettlementsResponseDto getExpectedSettlements(int sellerId);
 
     // 주문시 currentAmount 반영 API
-    void addCurrentAmount(int fundingId, int amount);
+    void addCurrentAmount(int fundingId, int amount, boolean firstOrder);
+
+    // 주문 생성 이벤트 반영 : currentAmount 와 랭킹만 갱신 (구매자 통계는 별도 컨슈머)
+    void applyOrderAmount(int fundingId, int amount);
 
 
 }
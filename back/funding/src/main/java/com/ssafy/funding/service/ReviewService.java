@@ -3,6 +3,7 @@ package com.ssafy.funding.service;
 import com.ssafy.funding.dto.review.request.ReviewCreateRequestDto;
 import com.ssafy.funding.dto.review.request.ReviewUpdateRequestDto;
 import com.ssafy.funding.dto.review.response.ReviewDto;
+import com.ssafy.funding.dto.review.response.ReviewPageResponseDto;
 import com.ssafy.funding.dto.review.response.SingleReviewResponseDto;
 import com.ssafy.funding.dto.review.response.ReviewListResponseDto;
 
@@ -12,6 +13,8 @@ public interface ReviewService {
     SingleReviewResponseDto getReview(int reviewId);
     ReviewListResponseDto getReviewsByFundingId(int fundingId);
     ReviewListResponseDto getReviewsBySellerId(int sellerId);
+    ReviewPageResponseDto getReviewPageByFundingId(int fundingId, String cursor);
+    ReviewPageResponseDto getReviewPageBySellerId(int sellerId, String cursor);
     List<ReviewDto> getReviewsByUserId(int userId);
     void createReview(int userId, ReviewCreateRequestDto dto);
     void updateReview(int userId, int reviewId, ReviewUpdateRequestDto dto);
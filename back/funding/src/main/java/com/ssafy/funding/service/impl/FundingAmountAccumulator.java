@@ -0,0 +1,254 @@
+package com.ssafy.funding.service.impl;
+
+import com.ssafy.funding.event.FundingChangedEvent;
+import com.ssafy.funding.mapper.FundingAmountFlushMapper;
+import com.ssafy.funding.mapper.FundingMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 펀딩 모금액(current_amount) 쓰기 지연 누적기
+ * - write-behind 모드에서는 주문 증분을 Redis 해시(funding:amount:pending)에 HINCRBY 로만 누적하고,
+ *   flush-interval-ms 마다 또는 flush-threshold 건이 쌓이면 펀딩별 합계를 UPDATE 한 문장으로 반영합니다.
+ *   인기 펀딩에 주문이 몰려도 같은 행의 잠금 대기가 주문 수가 아닌 flush 횟수만큼만 발생합니다.
+ * - flush 는 pending 해시를 in-flight 키로 RENAME 하고 배치 ID(UUID) 를 붙인 뒤 반영하며, 배치 ID 는 같은 트랜잭션에서
+ *   funding_amount_flush_log 에 기록합니다. 반영 중 장애가 나도 in-flight 해시가 남아 다음 flush 에서 이어 처리하고,
+ *   이미 커밋된 배치는 PK 중복으로 걸러져 두 번 반영되지 않습니다. (배치 ID 를 Redis 카운터로 만들면 키 유실 시
+ *   보관 중인 기록과 겹쳐 반영되지 않은 배치가 "이미 반영됨" 으로 버려질 수 있어 UUID 를 사용)
+ * - 커밋 직후 in-flight 해시가 지워지기 전에는 DB 와 in-flight 양쪽에 같은 금액이 있으므로, 미반영 금액 조회는
+ *   in-flight 배치가 이미 기록돼 있으면 in-flight 를 제외합니다.
+ * - 모드를 끄면(기본값) 기존처럼 주문마다 바로 UPDATE 합니다. 두 경로의 처리 시간은 funding.amount.add{mode} 로 비교합니다.
+ */
+@Slf4j
+@Component
+public class FundingAmountAccumulator {
+
+    private static final String PENDING_KEY = "funding:amount:pending";
+    private static final String INFLIGHT_KEY = "funding:amount:inflight";
+    private static final String BATCH_KEY = "funding:amount:inflight:batch";
+
+    // 이전 in-flight 배치가 남아 있으면 그 배치를, 없으면 pending 을 새 배치(ARGV[1])로 전환
+    private static final RedisScript<String> PREPARE_SCRIPT = new DefaultRedisScript<>("""
+            local batch = redis.call('GET', KEYS[3])
+            if batch then return batch end
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('SET', KEYS[3], ARGV[1])
+            return ARGV[1]
+            """, String.class);
+
+    // 반영한 배치가 아직 in-flight 이면 제거
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FundingMapper fundingMapper;
+    private final FundingAmountFlushMapper flushMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long flushThreshold;
+    private final AtomicLong unflushedCount = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "funding-amount-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer directTimer;
+    private final Timer writeBehindTimer;
+    private final Timer flushTimer;
+    private final DistributionSummary flushSizeSummary;
+    private final Counter fallbackCounter;
+
+    public FundingAmountAccumulator(RedisTemplate<String, String> redisTemplate,
+                                    FundingMapper fundingMapper,
+                                    FundingAmountFlushMapper flushMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${funding.amount.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${funding.amount.write-behind.flush-threshold:1000}") long flushThreshold) {
+        this.redisTemplate = redisTemplate;
+        this.fundingMapper = fundingMapper;
+        this.flushMapper = flushMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.flushThreshold = flushThreshold;
+
+        this.directTimer = Timer.builder("funding.amount.add").tag("mode", "direct").register(meterRegistry);
+        this.writeBehindTimer = Timer.builder("funding.amount.add").tag("mode", "write-behind").register(meterRegistry);
+        this.flushTimer = Timer.builder("funding.amount.flush").register(meterRegistry);
+        this.flushSizeSummary = DistributionSummary.builder("funding.amount.flush.size").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("funding.amount.write-behind.fallback").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 모금액 반영
+     * - write-behind 모드면 Redis 에 누적하고, Redis 장애 시 바로 UPDATE 합니다.
+     * - 모금액 변경 이벤트는 DB 에 반영된 시점(직접 UPDATE 또는 flush)에 발행합니다.
+     */
+    public void add(int fundingId, int amount) {
+        if (enabled) {
+            try {
+                writeBehindTimer.record(() -> redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(fundingId), amount));
+                if (unflushedCount.incrementAndGet() >= flushThreshold) flushExecutor.execute(this::flush);
+                return;
+            } catch (RuntimeException e) {
+                fallbackCounter.increment();
+                log.warn("모금액 누적 실패, DB 직접 반영 - fundingId: {}, error: {}", fundingId, e.getMessage());
+            }
+        }
+        directTimer.record(() -> fundingMapper.addCurrentAmount(fundingId, amount));
+        eventPublisher.publishEvent(FundingChangedEvent.amountChanged(fundingId));
+    }
+
+    // 아직 DB 에 반영되지 않은 모금액 (조회 시 DB 값에 더함)
+    public long unflushedAmount(int fundingId) {
+        if (!enabled) return 0;
+        try {
+            String field = String.valueOf(fundingId);
+            long amount = parse(redisTemplate.opsForHash().get(PENDING_KEY, field));
+            Object inflight = redisTemplate.opsForHash().get(INFLIGHT_KEY, field);
+            if (inflight != null && !isInflightApplied()) amount += parse(inflight);
+            return amount;
+        } catch (RuntimeException e) {
+            log.warn("미반영 모금액 조회 실패 - fundingId: {}, error: {}", fundingId, e.getMessage());
+            return 0;
+        }
+    }
+
+    // 전체 미반영 모금액 (total_fund 보정용)
+    public long totalUnflushedAmount() {
+        if (!enabled) return 0;
+        long total = sum(PENDING_KEY);
+        if (!isInflightApplied()) total += sum(INFLIGHT_KEY);
+        return total;
+    }
+
+    private long sum(String key) {
+        long total = 0;
+        for (Object value : redisTemplate.opsForHash().values(key)) total += parse(value);
+        return total;
+    }
+
+    // in-flight 배치가 이미 커밋됐지만 아직 정리 전이면 DB 에 포함된 금액이므로 중복으로 더하지 않음
+    private boolean isInflightApplied() {
+        String batchId = redisTemplate.opsForValue().get(BATCH_KEY);
+        return batchId != null && flushMapper.existsFlushLog(batchId);
+    }
+
+    private static long parse(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    // 주기 반영 : 다른 스레드가 반영 중이면 건너뜀
+    @Scheduled(fixedDelayString = "${funding.amount.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        if (!enabled || !flushLock.tryLock()) return;
+        try {
+            flushBatches();
+        } catch (RuntimeException e) {
+            log.warn("모금액 반영 실패, 다음 주기에 재시도 - {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 누적된 모금액을 DB 에 반영하고 돌아옵니다. (펀딩 종료 판정처럼 정확한 DB 값이 필요한 경우)
+     * - 다른 스레드가 반영 중이면 끝날 때까지 기다린 뒤 남은 증분까지 반영하고, 실패하면 예외를 던집니다.
+     */
+    public void flushOrThrow() {
+        if (!enabled) return;
+        flushLock.lock();
+        try {
+            flushBatches();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushBatches() {
+        unflushedCount.set(0);
+        // 남아 있던 in-flight 배치(장애 복구) 다음 새 배치까지 처리
+        for (int i = 0; i < 2; i++) {
+            String batchId = redisTemplate.execute(PREPARE_SCRIPT, List.of(PENDING_KEY, INFLIGHT_KEY, BATCH_KEY),
+                    UUID.randomUUID().toString());
+            if (batchId == null) return;
+            flushTimer.record(() -> apply(batchId));
+            redisTemplate.execute(COMPLETE_SCRIPT, List.of(INFLIGHT_KEY, BATCH_KEY), batchId);
+        }
+    }
+
+    private void apply(String batchId) {
+        // fundingId 순으로 정렬해 여러 인스턴스가 동시에 반영해도 잠금 순서가 같음
+        Map<Integer, Long> deltas = new TreeMap<>();
+        redisTemplate.opsForHash().entries(INFLIGHT_KEY)
+                .forEach((fundingId, amount) -> deltas.put(Integer.valueOf(fundingId.toString()), parse(amount)));
+        deltas.values().removeIf(amount -> amount == 0);
+        if (deltas.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                flushMapper.insertFlushLog(batchId);
+                flushMapper.addCurrentAmounts(deltas);
+                deltas.keySet().forEach(fundingId -> eventPublisher.publishEvent(FundingChangedEvent.amountChanged(fundingId)));
+            });
+            flushSizeSummary.record(deltas.size());
+        } catch (DuplicateKeyException e) {
+            // 배치 ID 가 UUID 라 PK 중복은 같은 배치가 커밋된 경우뿐이지만, 기록을 다시 확인한 뒤에만 정리로 넘어감
+            if (!flushMapper.existsFlushLog(batchId)) throw e;
+            log.info("이미 반영된 모금액 배치 - batchId: {}", batchId);
+        }
+    }
+
+    // 중복 반영 확인용 기록은 하루만 보관 (아직 정리되지 않은 in-flight 배치의 기록은 남김)
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void purgeFlushLog() {
+        if (!enabled) return;
+        flushMapper.deleteFlushLogBefore(LocalDateTime.now().minusDays(1), redisTemplate.opsForValue().get(BATCH_KEY));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+}
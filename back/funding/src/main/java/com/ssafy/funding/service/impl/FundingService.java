@@ -1,18 +1,21 @@
 package com.ssafy.funding.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.funding.cache.FundingCache;
 import com.ssafy.funding.client.ChatClient;
 import com.ssafy.funding.client.OrderClient;
 import com.ssafy.funding.client.UserClient;
 import com.ssafy.funding.common.exception.CustomException;
+import com.ssafy.funding.common.util.CursorUtil;
 import com.ssafy.funding.common.util.JsonConverter;
 import com.ssafy.funding.document.FundingDocument;
 import com.ssafy.funding.dto.chat.request.ChatRoomCreateRequest;
 import com.ssafy.funding.dto.funding.request.FundingCreateRequestDto;
 import com.ssafy.funding.dto.funding.request.FundingCreateSendDto;
+import com.ssafy.funding.dto.funding.request.FundingCursor;
 import com.ssafy.funding.dto.funding.request.FundingUpdateSendDto;
+import com.ssafy.funding.dto.funding.request.SearchCursor;
+import com.ssafy.funding.dto.funding.response.CursorPageResponseDto;
 import com.ssafy.funding.dto.funding.response.FundingResponseDto;
 import com.ssafy.funding.dto.funding.response.FundingWishCountResponseDto;
 import com.ssafy.funding.dto.funding.response.GetFundingResponseDto;
@@ -26,22 +29,39 @@ import com.ssafy.funding.dto.seller.request.GetSellerTodayOrderCountRequestDto;
 import com.ssafy.funding.dto.seller.response.*;
 import com.ssafy.funding.elasticsearch.ElasticsearchService;
 import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingCard;
+import com.ssafy.funding.entity.FundingSearchOutbox;
 import com.ssafy.funding.entity.FundingWishCount;
 import com.ssafy.funding.entity.SellerDetail;
+import com.ssafy.funding.entity.enums.Category;
 import com.ssafy.funding.entity.enums.Status;
+import com.ssafy.funding.event.FundingChangedEvent;
+import com.ssafy.funding.leaderboard.FundingLeaderboard;
 import com.ssafy.funding.mapper.FundingMapper;
+import com.ssafy.funding.mapper.FundingSearchOutboxMapper;
+import com.ssafy.funding.mapper.FundingStatsMapper;
 import com.ssafy.funding.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.Duration;
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.ssafy.funding.common.response.ResponseCode.*;
@@ -52,18 +72,25 @@ import static com.ssafy.funding.common.response.ResponseCode.*;
 public class FundingService implements ProductService {
     private final OrderClient orderClient;
     private final FundingMapper fundingMapper;
+    private final FundingSearchOutboxMapper fundingSearchOutboxMapper;
     private final ElasticsearchService elasticsearchService;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final FundingCache fundingCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FundingLeaderboard fundingLeaderboard;
+    private final FundingAmountAccumulator fundingAmountAccumulator;
+    private final FundingStatsMapper fundingStatsMapper;
     private final UserClient userClient;
 
     private static final int PAGE_SIZE = 5;
+    private static final int TOP_FUNDING_SIZE = 5;
+    private static final int SOON_WINDOW_MINUTES = 60;
     private static final String TOTAL_FUND_KEY = "total_fund";
     private final ChatClient chatClient;
 
     @Override
     public FundingResponseDto getFunding(int fundingId) {
-        Funding funding = findByFundingId(fundingId);
+        Funding funding = findCachedByFundingId(fundingId);
         return FundingResponseDto.fromEntity(funding);
     }
 
@@ -73,28 +100,9 @@ public class FundingService implements ProductService {
     public Funding createFunding(int sellerId, FundingCreateSendDto dto) {
         Funding funding = dto.toEntity(sellerId);
         fundingMapper.createFunding(funding);
-        System.out.println(funding.getEndDate());
-        FundingDocument document = FundingDocument.builder()
-                .fundingId(fundingMapper.getLatestFundingId())
-                .sellerId(funding.getSellerId())
-                .title(funding.getTitle())
-                // 자동완성을 위해 제목을 그대로 설정 (필요에 따라 전처리 가능)
-                .titleSuggest(funding.getTitle())
-                .description(funding.getDescription())
-                // 이미지 URL 배열을 JSON 문자열 형태로 저장하는 경우
-                .imageUrl(funding.getImageUrl())
-                // 종료 날짜 (LocalDateTime 타입 등으로 저장)
-                .endDate(funding.getEndDate())
-                // 현재 모금액
-                .currentAmount(funding.getCurrentAmount())
-                // 카테고리 (예: "FASHION")
-                .category(funding.getCategory())
-                // 목표 달성률 또는 기타 비율
-                .rate(funding.getTotalAmount() != 0 ? funding.getCurrentAmount()/funding.getTotalAmount()*100 : 0)
-                .build();
-
-
-        elasticsearchService.indexFunding(document);
+        // 검색 색인은 같은 트랜잭션의 아웃박스에 기록하고 FundingSearchIndexer 가 비동기로 반영
+        fundingSearchOutboxMapper.insert(FundingSearchOutbox.upsert(funding.getFundingId()));
+        eventPublisher.publishEvent(FundingChangedEvent.created(funding.getFundingId(), funding.getCategory()));
 
         // 펀딩 상기면 chatroom 추가 로직 실행
         ChatRoomCreateRequest chatRoomRequest = ChatRoomCreateRequest.from(funding);
@@ -106,35 +114,21 @@ public class FundingService implements ProductService {
     @Transactional
     public Funding updateFunding(int fundingId, FundingUpdateSendDto dto) {
         Funding funding = findByFundingId(fundingId);
+        Category beforeCategory = funding.getCategory();
         funding.update(dto);
         fundingMapper.updateFunding(funding);
-        FundingDocument document = FundingDocument.builder()
-                .fundingId(funding.getFundingId())
-                .sellerId(funding.getSellerId())
-                .title(funding.getTitle())
-                // 자동완성을 위해 제목을 그대로 설정 (필요에 따라 전처리 가능)
-                .titleSuggest(funding.getTitle())
-                .description(funding.getDescription())
-                // 이미지 URL 배열을 JSON 문자열 형태로 저장하는 경우
-                .imageUrl(funding.getImageUrl())
-                // 종료 날짜 (LocalDateTime 타입 등으로 저장)
-                .endDate(funding.getEndDate())
-                // 현재 모금액
-                .currentAmount(funding.getCurrentAmount())
-                // 카테고리 (예: "FASHION")
-                .category(funding.getCategory())
-                // 목표 달성률 또는 기타 비율
-                .rate(funding.getCurrentAmount()/funding.getTotalAmount()*100)
-                .build();
-        elasticsearchService.indexFunding(document);
+        fundingSearchOutboxMapper.insert(FundingSearchOutbox.upsert(fundingId));
+        eventPublisher.publishEvent(FundingChangedEvent.updated(fundingId, beforeCategory, funding.getCategory()));
         return funding;
     }
 
     @Override
+    @Transactional
     public void deleteFunding(int fundingId) {
-        findByFundingId(fundingId);
+        Funding funding = findByFundingId(fundingId);
         fundingMapper.deleteFunding(fundingId);
-        elasticsearchService.deleteFunding(fundingId);
+        fundingSearchOutboxMapper.insert(FundingSearchOutbox.delete(fundingId));
+        eventPublisher.publishEvent(FundingChangedEvent.deleted(fundingId, funding.getCategory()));
     }
 
     private Funding findByFundingId(int fundingId) {
@@ -143,6 +137,17 @@ public class FundingService implements ProductService {
         return funding;
     }
 
+    // 조회 전용 : 2단 캐시에서 꺼낸 엔티티는 공유 인스턴스이므로 수정 경로에서는 findByFundingId 사용
+    private Funding findCachedByFundingId(int fundingId) {
+        Funding funding = fundingCache.get(
+                FundingCache.detailKey(fundingId),
+                new TypeReference<>() {},
+                () -> fundingMapper.findById(fundingId),
+                loaded -> List.of(FundingCache.fundingTag(fundingId)));
+        if (funding == null) throw new CustomException(FUNDING_NOT_FOUND);
+        return funding;
+    }
+
     @Override
     public Status getFundingStatus(int fundingId) {
         Funding funding = findByFundingId(fundingId);
@@ -150,37 +155,45 @@ public class FundingService implements ProductService {
     }
 
     // 현재까지 펀딩 금액 조회
+    // total_fund 는 주문 시 INCRBY 로 누적되는 카운터이므로 TTL 없이, 없을 때만 DB 합계로 초기화
     @Transactional
     public Long getTotalFund(){
         String cachedFund = redisTemplate.opsForValue().get(TOTAL_FUND_KEY);
         if(cachedFund != null) return Long.parseLong(cachedFund);
-        Long totalFund = fundingMapper.getTotalFund();
-        redisTemplate.opsForValue().set(TOTAL_FUND_KEY, totalFund.toString(), Duration.ofMinutes(10));
-        return totalFund;
+        Long totalFund = fundingMapper.getTotalFund() + fundingAmountAccumulator.totalUnflushedAmount();
+        Boolean initialized = redisTemplate.opsForValue().setIfAbsent(TOTAL_FUND_KEY, totalFund.toString());
+        if (Boolean.TRUE.equals(initialized)) return totalFund;
+
+        // 다른 요청이 먼저 초기화했다면 그 값을 기준으로 반환
+        String current = redisTemplate.opsForValue().get(TOTAL_FUND_KEY);
+        return current != null ? Long.parseLong(current) : totalFund;
     }
 
     // Top 펀딩 리스트 조회
     @Transactional
     public List<GetFundingResponseDto> getTopFundingList(){
-        List<Funding> fundingList = fundingMapper.getTopFundingList();
+        // 달성률 랭킹(ZSET) 상위 ID 를 조회한 뒤 PK 로 일괄 조회, 랭킹 구성 전이면 DB 정렬 조회
+        List<FundingCard> fundingList = fundingLeaderboard.isReady()
+                ? findRankedFundings(FundingLeaderboard.RATE, null, 0, TOP_FUNDING_SIZE)
+                : fundingMapper.getTopFundingList();
         if (fundingList == null) {
             throw new CustomException(FUNDING_NOT_FOUND);
         }
-        return fundingList.stream().map(Funding::toDto).collect(Collectors.toList());
+        return fundingList.stream().map(FundingCard::toDto).collect(Collectors.toList());
     }
 
     // 최신 펀딩 리스트 조회
     @Transactional
     public List<GetFundingResponseDto> getLatestFundingList(int page){
-        List<Funding> fundingList = fundingMapper.getLatestFundingList((page - 1)  * 5);
-        return fundingList.stream().map(Funding::toDto).collect(Collectors.toList());
+        List<FundingCard> fundingList = fundingMapper.getLatestFundingList(pageOffset(page));
+        return fundingList.stream().map(FundingCard::toDto).collect(Collectors.toList());
     }
 
     // 카테고리별 펀딩 리스트 조회
     @Transactional
     public List<GetFundingResponseDto> getCategoryFundingList(String category, int page){
-        List<Funding> fundingList = fundingMapper.getCategoryFundingList(category, (page - 1)  * 5);
-        return fundingList.stream().map(Funding::toDto).collect(Collectors.toList());
+        List<FundingCard> fundingList = fundingMapper.getCategoryFundingList(category, pageOffset(page));
+        return fundingList.stream().map(FundingCard::toDto).collect(Collectors.toList());
     }
 
     // 레디스키 생성 메서드
@@ -191,15 +204,16 @@ public class FundingService implements ProductService {
         return String.format("funding::%s::%s::%d", sort, categoryPart, page);
     }
 
-    // redis 캐싱 메서드
-    private void redisCaching(String redisKey, List<?> dtoList) {
-        // redis에 캐싱
-        try {
-            String json = objectMapper.writeValueAsString(dtoList);
-            redisTemplate.opsForValue().set(redisKey, json, Duration.ofMinutes(1)); // TTL 설정
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+    // 목록 캐시 태그 : 정렬 + 카테고리별 태그와 목록에 포함된 펀딩 ID 태그
+    private Set<String> makeListingTags(String sort, List<String> categories, List<GetFundingResponseDto> dtoList) {
+        Set<String> tags = new HashSet<>();
+        if (categories == null || categories.isEmpty()) {
+            tags.add(FundingCache.listingTag(sort, FundingCache.ALL_CATEGORIES));
+        } else {
+            categories.forEach(category -> tags.add(FundingCache.listingTag(sort, category)));
         }
+        dtoList.forEach(dto -> tags.add(FundingCache.fundingTag(dto.getFundingId())));
+        return tags;
     }
 
     // 펀딩 페이지 조회
@@ -209,26 +223,51 @@ public class FundingService implements ProductService {
         String redisKey = makeRedisKey(sort, categories, page);
         System.out.println(redisKey);
 
-        // redis에서 키 조회
-        String cachedJson = redisTemplate.opsForValue().get(redisKey);
-
-        if (cachedJson != null) {
-            try {
-                return objectMapper.readValue(cachedJson, new TypeReference<>() {});
-            } catch (JsonProcessingException e) {
-                e.printStackTrace();
-            }
+        // L1(로컬) → L2(redis) → DB 순으로 조회, 변경 이벤트로 태그 단위 무효화
+        int offset = pageOffset(page);
+        return fundingCache.get(
+                redisKey,
+                new TypeReference<>() {},
+                () -> loadFundingPage(sort, categories, offset).stream()
+                        .map(FundingCard::toDto).collect(Collectors.toList()),
+                dtoList -> makeListingTags(sort, categories, dtoList));
+    }
+
+    // 인기순은 단일 카테고리(또는 전체)면 모금액 랭킹에서, 그 외는 DB 조회
+    private List<FundingCard> loadFundingPage(String sort, List<String> categories, int offset) {
+        boolean singleScope = categories == null || categories.size() <= 1;
+        if ("popular".equals(sort) && singleScope && fundingLeaderboard.isReady()) {
+            String category = (categories == null || categories.isEmpty()) ? null : categories.get(0);
+            return findRankedFundings(FundingLeaderboard.AMOUNT, category, offset, PAGE_SIZE);
         }
+        return fundingMapper.getFundingPageList(sort, categories, offset, PAGE_SIZE);
+    }
 
-        // redis에 없으면 DB 조회
-        int offset = (page -1) * PAGE_SIZE;
-        List<Funding> fundingList = fundingMapper.getFundingPageList(sort, categories, offset, PAGE_SIZE);
-        List<GetFundingResponseDto> dtoList = fundingList.stream()
-                .map(Funding::toDto).collect(Collectors.toList());
+    // 랭킹 순서를 유지한 채 펀딩 카드 일괄 조회
+    private List<FundingCard> findRankedFundings(String metric, String category, int offset, int size) {
+        List<Integer> fundingIds = fundingLeaderboard.topIds(metric, category, offset, size);
+        if (fundingIds.isEmpty()) return List.of();
+        Map<Integer, FundingCard> fundingById = fundingMapper.findCardsByIds(fundingIds).stream()
+                .collect(Collectors.toMap(FundingCard::getFundingId, funding -> funding));
+        return fundingIds.stream().map(fundingById::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
 
-        // redis에 캐싱
-        redisCaching(redisKey, dtoList);
-        return dtoList;
+    // 펀딩 페이지 키셋(커서) 조회 - 깊은 페이지도 OFFSET 스캔 없이 마지막 정렬키부터 seek
+    @Transactional
+    public CursorPageResponseDto<GetFundingResponseDto> getFundingPageListByCursor(String sort, List<String> categories, String cursor) {
+        // 정렬과 카테고리가 결과 집합을 결정하므로 커서도 두 값에 묶어 둠
+        String cursorQuery = CursorUtil.queryHash(sort, categories);
+        FundingCursor fundingCursor = FundingCursor.decode(cursor, cursorQuery);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<FundingCard> fundingList = fundingMapper.getFundingPageListByCursor(sort, categories, fundingCursor, PAGE_SIZE + 1);
+        boolean hasNext = fundingList.size() > PAGE_SIZE;
+        if (hasNext) fundingList = fundingList.subList(0, PAGE_SIZE);
+
+        String nextCursor = hasNext ? FundingCursor.of(cursorQuery, fundingList.get(fundingList.size() - 1)).encode() : null;
+        List<GetFundingResponseDto> dtoList = fundingList.stream()
+                .map(FundingCard::toDto).collect(Collectors.toList());
+        return CursorPageResponseDto.of(dtoList, nextCursor);
     }
 
     // 펀딩 검색페이지 토픽 검색 (베스트 펀딩, 마감임박, 오늘의 검색어)
@@ -242,27 +281,61 @@ public class FundingService implements ProductService {
         String redisKey = String.format("special::%s::%s::%d", sort, topic, page);
         System.out.println(redisKey);
 
-        // redis에서 키 조회
-        String cachedJson = redisTemplate.opsForValue().get(redisKey);
+        // L1(로컬) → L2(redis) → DB 순으로 조회, 변경 이벤트로 태그 단위 무효화
+        int offset = pageOffset(page);
+        return fundingCache.get(
+                redisKey,
+                new TypeReference<>() {},
+                () -> loadSpecialFundings(topic, sort, offset).stream()
+                        .map(FundingWishCount::toDto).collect(Collectors.toList()),
+                dtoList -> {
+                    Set<String> tags = new HashSet<>();
+                    tags.add(FundingCache.specialTag(sort, topic));
+                    dtoList.forEach(dto -> tags.add(FundingCache.fundingTag(dto.getFundingId())));
+                    return tags;
+                });
+    }
+
+    // 기본 정렬(none)은 찜 수 랭킹/종료 시각 ZSET 범위 조회 후 PK 일괄 조회, 그 외 정렬은 DB 인덱스 조회
+    private List<FundingWishCount> loadSpecialFundings(String topic, String sort, int offset) {
+        if (!"none".equals(sort) || !fundingLeaderboard.isReady()) {
+            return fundingMapper.getSpecialFundingList(topic, sort, offset, PAGE_SIZE);
+        }
 
-        if (cachedJson != null) {
-            try {
-                return objectMapper.readValue(cachedJson, new TypeReference<>() {});
-            } catch (JsonProcessingException e) {
-                e.printStackTrace();
-            }
+        List<Integer> fundingIds;
+        if (topic.equals("best")) {
+            fundingIds = fundingLeaderboard.topIds(FundingLeaderboard.WISH, null, offset, PAGE_SIZE);
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            fundingIds = fundingLeaderboard.closingIds(now, now.plusMinutes(SOON_WINDOW_MINUTES), offset, PAGE_SIZE);
+        }
+        if (fundingIds.isEmpty()) return List.of();
+
+        Map<Integer, FundingWishCount> fundingById = fundingMapper.getSpecialFundingsByIds(fundingIds).stream()
+                .collect(Collectors.toMap(FundingWishCount::getFundingId, funding -> funding));
+        return fundingIds.stream().map(fundingById::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // 펀딩 검색페이지 토픽 키셋(커서) 조회
+    @Transactional
+    public CursorPageResponseDto<FundingWishCountResponseDto> getSearchSpecialFundingByCursor(String sort, String topic, String cursor) {
+
+        if (!topic.equals("soon") && !topic.equals("best")) {
+            throw new CustomException(BAD_REQUEST);
         }
 
-        // redis에 없으면 DB 조회
-        int offset = (page -1) * PAGE_SIZE;
+        // sort 와 topic 조합이 정렬키를 결정하므로 커서도 두 값에 묶어 둠
+        String cursorQuery = CursorUtil.queryHash(sort, topic);
+        FundingCursor fundingCursor = FundingCursor.decode(cursor, cursorQuery);
+
+        List<FundingWishCount> fundingList = fundingMapper.getSpecialFundingListByCursor(topic, sort, fundingCursor, PAGE_SIZE + 1);
+        boolean hasNext = fundingList.size() > PAGE_SIZE;
+        if (hasNext) fundingList = fundingList.subList(0, PAGE_SIZE);
 
-        List<FundingWishCount> fundingList = fundingMapper.getSpecialFundingList(topic, sort, offset, PAGE_SIZE);
+        String nextCursor = hasNext ? FundingCursor.of(cursorQuery, fundingList.get(fundingList.size() - 1)).encode() : null;
         List<FundingWishCountResponseDto> dtoList = fundingList.stream()
                 .map(FundingWishCount::toDto).collect(Collectors.toList());
-
-        // redis에 캐싱
-        redisCaching(redisKey, dtoList);
-        return dtoList;
+        return CursorPageResponseDto.of(dtoList, nextCursor);
     }
 
     // 펀딩 키워드 검색 조회
@@ -295,40 +368,86 @@ public class FundingService implements ProductService {
 //        return dtoList;
 //    }
 
-    @Transactional
-    public List<GetFundingResponseDto> getSearchFundingList(String sort, String keyword, int page) {
-        List<GetFundingResponseDto> dtoList;
+    // 키워드 검색 : Elasticsearch 관련도 검색, ES 장애(연결 불가/인덱스 없음)일 때만 MySQL LIKE 조회로 대체
+    @Override
+    public List<GetFundingResponseDto> getSearchFundingList(String sort, String keyword, String category, int page) {
+        Category searchCategory = parseCategory(category);
+        int offset = pageOffset(page);
         try {
-            // Elasticsearch 조회 시도
-            List<FundingDocument> docList = elasticsearchService.searchDocuments(keyword, sort, page, PAGE_SIZE);
-            // 조회 결과가 없으면 예외를 발생시켜 DB 조회로 넘어가게 함
-            if (docList == null || docList.isEmpty()) {
-                throw new Exception("No documents found in Elasticsearch");
-            }
-            dtoList = docList.stream()
-                    .map(doc -> GetFundingResponseDto.builder()
-                            .fundingId(doc.getFundingId())
-                            .sellerId(doc.getSellerId())
-                            .title(doc.getTitle())
-                            .description(doc.getDescription())
-                            .imageUrls(JsonConverter.convertJsonToImageUrls(doc.getImageUrl()))
-                            .endDate(doc.getEndDate())
-                            .currentAmount(doc.getCurrentAmount())
-                            .category(doc.getCategory())
-                            .rate(doc.getRate())
-                            .build())
+            return elasticsearchService.searchDocuments(keyword, sort, searchCategory, page, PAGE_SIZE).stream()
+                    .map(FundingService::toSearchDto)
                     .collect(Collectors.toList());
-        } catch (Exception e) {
-            // Elasticsearch 조회 실패 시 로그 출력 후 DB 조회로 대체
-            // (예: 더미 데이터 또는 인덱스 미구축 등의 경우)
-            e.printStackTrace();  // 로깅 프레임워크를 사용하여 에러 로그 남기기 권장
-            int offset = (page - 1) * PAGE_SIZE;
-            List<Funding> fundingList = fundingMapper.getSearchFundingList(sort, keyword, offset, PAGE_SIZE);
-            dtoList = fundingList.stream()
-                    .map(Funding::toDto)
+        } catch (RuntimeException e) {
+            if (!isSearchUnavailable(e)) throw e;
+            log.warn("Elasticsearch 검색 불가, DB 조회로 대체 - keyword: {}, error: {}", keyword, e.getMessage());
+            return searchFromDatabase(sort, keyword, searchCategory, offset);
+        }
+    }
+
+    // 키워드 검색 search_after 커서 조회 (ES 장애 시 첫 페이지만 DB 조회로 대체)
+    @Override
+    public CursorPageResponseDto<GetFundingResponseDto> getSearchFundingListByCursor(String sort, String keyword, String category, String cursor) {
+        Category searchCategory = parseCategory(category);
+        // 검색어/카테고리가 다른 검색에 커서가 재사용되면 search_after 위치가 어긋나므로 조건 해시에 묶어 둠
+        String cursorQuery = CursorUtil.queryHash(sort, keyword, category);
+        SearchCursor searchCursor = SearchCursor.decode(cursor, cursorQuery);
+        try {
+            SearchHits<FundingDocument> hits = elasticsearchService.searchDocumentsAfter(
+                    keyword, sort, searchCategory, searchCursor == null ? null : searchCursor.values(), PAGE_SIZE);
+
+            List<GetFundingResponseDto> content = hits.getSearchHits().stream()
+                    .map(hit -> toSearchDto(hit.getContent()))
                     .collect(Collectors.toList());
+            String nextCursor = hits.getSearchHits().size() < PAGE_SIZE ? null
+                    : new SearchCursor(cursorQuery, hits.getSearchHits().get(hits.getSearchHits().size() - 1).getSortValues()).encode();
+            return CursorPageResponseDto.of(content, nextCursor);
+        } catch (RuntimeException e) {
+            if (!isSearchUnavailable(e)) throw e;
+            // 다음 페이지는 ES 정렬값 기반이라 DB 로 이어갈 수 없음
+            if (searchCursor != null) throw new CustomException(SEARCH_UNAVAILABLE);
+            log.warn("Elasticsearch 검색 불가, DB 조회로 대체 - keyword: {}, error: {}", keyword, e.getMessage());
+            return CursorPageResponseDto.of(searchFromDatabase(sort, keyword, searchCategory, 0), null);
+        }
+    }
+
+    private List<GetFundingResponseDto> searchFromDatabase(String sort, String keyword, Category category, int offset) {
+        List<FundingCard> fundingList = fundingMapper.getSearchFundingList(sort, keyword, category == null ? null : category.name(), offset, PAGE_SIZE);
+        return fundingList.stream()
+                .map(FundingCard::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private static GetFundingResponseDto toSearchDto(FundingDocument doc) {
+        return GetFundingResponseDto.builder()
+                .fundingId(doc.getFundingId())
+                .sellerId(doc.getSellerId())
+                .title(doc.getTitle())
+                .description(doc.getDescription())
+                .imageUrls(JsonConverter.convertJsonToImageUrls(doc.getImageUrl()))
+                .endDate(doc.getEndDate())
+                .currentAmount(doc.getCurrentAmount())
+                .category(doc.getCategory())
+                .rate(doc.getRate())
+                .build();
+    }
+
+    private static Category parseCategory(String category) {
+        if (category == null || category.isBlank()) return null;
+        try {
+            return Category.valueOf(category);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(BAD_REQUEST);
         }
-        return dtoList;
+    }
+
+    // 연결 실패/타임아웃, 인덱스 없음만 장애로 판단 (검색 결과 0건은 정상 응답)
+    private static boolean isSearchUnavailable(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DataAccessResourceFailureException || t instanceof NoSuchIndexException || t instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -336,23 +455,27 @@ public class FundingService implements ProductService {
     // 펀딩 상세 페이지
     @Transactional
     public GetFundingResponseDto getFundingDetail(int fundingId) {
-        Funding funding = fundingMapper.findById(fundingId);
-        if (funding == null) {
-            throw new CustomException(FUNDING_NOT_FOUND);
+        Funding funding = findCachedByFundingId(fundingId);
+        GetFundingResponseDto dto = funding.toDto();
+
+        // write-behind 모드면 아직 DB 에 반영되지 않은 모금액을 더해서 응답
+        long unflushed = fundingAmountAccumulator.unflushedAmount(fundingId);
+        if (unflushed != 0) {
+            dto.setCurrentAmount((int) (dto.getCurrentAmount() + unflushed));
+            dto.setRate(FundingDocument.rateOf(dto.getCurrentAmount(), dto.getTargetAmount()));
         }
-        return funding.toDto();
+        return dto;
     }
 
 
     // 브랜드 만족도 조회
     @Transactional
     public ReviewResponseDto getFundingReview(int sellerId, int page) {
-        List<ReviewDto> reviewList = fundingMapper.getReviewList(sellerId, (page - 1) * 5); // 지금 페이지 네이션 x
+        // 한 페이지(5건)만 조회, 깊은 페이지는 키셋 조회(ReviewService.getReviewPageBySellerId) 사용
+        List<ReviewDto> reviewList = fundingMapper.getReviewList(sellerId, pageOffset(page));
 
-        float totalRating = (float) reviewList.stream()
-                .mapToDouble(review -> (double) review.getRating())
-                .average()
-                .orElse(0.0);
+        // 평균 평점은 펀딩별 집계(funding_stats) 합으로 계산
+        float totalRating = fundingStatsMapper.getSellerReviewStats(sellerId).averageRating();
 
         //Builder를 사용하여 겍체 생성
         ReviewResponseDto response = ReviewResponseDto.builder()
@@ -363,6 +486,14 @@ public class FundingService implements ProductService {
         return response;
     }
 
+    // 페이지는 1부터 시작 (0 이하면 OFFSET 이 음수가 되고, 너무 크면 OFFSET 계산이 넘침)
+    private static int pageOffset(int page) {
+        if (page < 1 || page > Integer.MAX_VALUE / PAGE_SIZE) {
+            throw new CustomException(BAD_REQUEST);
+        }
+        return (page - 1) * PAGE_SIZE;
+    }
+
     // 판매자 상세페이지 판매자 정보 요청 조회
     @Transactional
     public SellerDetailResponseDto getSellerDetail(int sellerId) {
@@ -376,7 +507,7 @@ public class FundingService implements ProductService {
     // 내가 주훔한 펀딩 조회
     @Transactional
     public List<MyFundingResponseDto> getMyFunding(List<Integer> fundingIds){
-        List<Funding> fundingList = fundingMapper.getMyFunding(fundingIds);
+        List<FundingCard> fundingList = fundingMapper.getMyFunding(fundingIds);
         log.info("fundingList: " + fundingList);
         return fundingList.stream()
                 .map(MyFundingResponseDto::toDto).collect(Collectors.toList());
@@ -544,8 +675,35 @@ public class FundingService implements ProductService {
 
     // 주문시 currentAmount 반영 API
     @Override
-    public void addCurrentAmount(int fundingId, int amount) {
-        fundingMapper.addCurrentAmount(fundingId, amount);
+    public void addCurrentAmount(int fundingId, int amount, boolean firstOrder) {
+        applyOrderAmount(fundingId, amount);
+        fundingStatsMapper.addOrder(fundingId, firstOrder ? 1 : 0);
+    }
+
+    @Override
+    public void applyOrderAmount(int fundingId, int amount) {
+        // DB 반영(직접 또는 write-behind)과 변경 이벤트 발행은 누적기가 담당
+        // Redis 반영(write-behind HINCRBY, 랭킹 ZSET)은 롤백되지 않으므로 커밋 이후에 실행해,
+        // 커밋 실패로 처리 기록만 롤백된 주문이 재전달될 때 두 번 더해지지 않게 함 (직접 UPDATE 는 트랜잭션 안에서 실행)
+        if (fundingAmountAccumulator.isEnabled()) {
+            runAfterCommit(() -> fundingAmountAccumulator.add(fundingId, amount));
+        } else {
+            fundingAmountAccumulator.add(fundingId, amount);
+        }
+        runAfterCommit(() -> fundingLeaderboard.addAmount(fundingId, amount));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
@@ -1,13 +1,16 @@
 package com.ssafy.funding.service.impl;
 
 import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.enums.Status;
 import com.ssafy.funding.event.FundingCompletedEvent;
+import com.ssafy.funding.event.FundingEndedEvent;
 import com.ssafy.funding.service.FundingEventProducer;
 import com.ssafy.funding.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -28,6 +31,16 @@ public class FundingSettlementPollingService {
 
     private final FundingEventProducer fundingEventProducer;
 
+    // 종료 전환 직후 성공한 펀딩의 정산 이벤트 발행 (일일 작업은 누락분 재발행용으로 유지)
+    @TransactionalEventListener
+    public void onFundingEnded(FundingEndedEvent event) {
+        for (FundingEndedEvent.EndedFunding funding : event.getFundings()) {
+            if (funding.status() != Status.SUCCESS) continue;
+            fundingEventProducer.sendFundingCompletedEvent(
+                    new FundingCompletedEvent(funding.fundingId(), funding.sellerId(), funding.endDate()));
+        }
+    }
+
     // 매일 자정 00:00:05에 실행 (cron 표현식: "초 분 시 일 월 요일")
     @Scheduled(cron = "0 20 0 * * ?")
     public void triggerSettlementEvents() {
@@ -0,0 +1,84 @@
+package com.ssafy.funding.service.impl;
+
+import com.ssafy.funding.client.OrderClient;
+import com.ssafy.funding.dto.order.response.FundingOrderStatsResponseDto;
+import com.ssafy.funding.mapper.FundingMapper;
+import com.ssafy.funding.mapper.FundingStatsMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 펀딩 집계 읽기 모델(funding_stats) 백필 및 야간 정합성 보정
+ * - 리뷰 수/평점 합/찜 수는 review, wishlist 집계로, 주문 수/구매자 수는 주문 서비스 집계로 funding_id 구간 단위 덮어씁니다.
+ * - 주문 서비스 호출이 실패한 구간은 주문 집계만 건너뛰고 다음 보정에서 다시 맞춥니다.
+ */
+@Slf4j
+@Service
+public class FundingStatsReconciler {
+
+    private final FundingMapper fundingMapper;
+    private final FundingStatsMapper fundingStatsMapper;
+    private final OrderClient orderClient;
+    private final int chunkSize;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Counter orderStatsFailureCounter;
+
+    public FundingStatsReconciler(FundingMapper fundingMapper,
+                                  FundingStatsMapper fundingStatsMapper,
+                                  OrderClient orderClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${funding.stats.chunk-size:1000}") int chunkSize) {
+        this.fundingMapper = fundingMapper;
+        this.fundingStatsMapper = fundingStatsMapper;
+        this.orderClient = orderClient;
+        this.chunkSize = chunkSize;
+        this.orderStatsFailureCounter = Counter.builder("funding.stats.order.failure").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${funding.stats.reconcile-cron:0 50 4 * * ?}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 펀딩 집계를 원본 기준으로 다시 맞춥니다. (테이블 생성 직후 백필에도 사용)
+     *
+     * @return 처리한 펀딩 ID 구간 수, 이미 실행 중이면 -1
+     */
+    public int reconcile() {
+        if (!running.compareAndSet(false, true)) return -1;
+        try {
+            int chunks = 0;
+            int maxFundingId = fundingMapper.getMaxFundingId();
+            for (int fromId = 1; fromId <= maxFundingId; fromId += chunkSize) {
+                int toId = fromId + chunkSize - 1;
+                fundingStatsMapper.recalculateReviewAndWish(fromId, toId);
+                reconcileOrderStats(fromId, toId);
+                chunks++;
+            }
+            log.info("펀딩 집계 보정 완료 - chunks: {}", chunks);
+            return chunks;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reconcileOrderStats(int fromId, int toId) {
+        List<Integer> fundingIds = fundingStatsMapper.findFundingIds(fromId, toId);
+        if (fundingIds.isEmpty()) return;
+        try {
+            List<FundingOrderStatsResponseDto> stats = orderClient.getFundingOrderStats(fundingIds);
+            if (!stats.isEmpty()) fundingStatsMapper.upsertOrderStats(stats);
+        } catch (RuntimeException e) {
+            orderStatsFailureCounter.increment();
+            log.warn("주문 집계 보정 실패 - range: {}~{}, error: {}", fromId, toId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.funding.service.impl;
+
+import com.ssafy.funding.event.OrderCreatedEvent;
+import com.ssafy.funding.lifecycle.FundingLifecycleEngine;
+import com.ssafy.funding.mapper.ProcessedOrderEventMapper;
+import com.ssafy.funding.service.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 생성 이벤트 컨슈머 - 펀딩 모금액(current_amount) 및 랭킹 반영
+ * - processed_order_event 에 (consumer, orderId) 를 반영과 같은 트랜잭션으로 남겨 재전달된 주문은 건너뜁니다.
+ * - write-behind 모드의 Redis 누적과 랭킹 반영은 처리 기록이 커밋된 뒤에 실행되므로, 커밋 실패 후 재전달돼도 두 번 더해지지 않습니다.
+ *   (커밋 직후 Redis 반영 전에 프로세스가 종료되면 해당 증분은 반영되지 않음)
+ * - 종료 판정 이후 도착한 종료일 이전 주문은 FundingLifecycleEngine 에 재판정을 맡깁니다.
+ *   (재판정이 실패해 재전달돼도 다시 확인하도록 이미 처리한 주문이어도 호출)
+ */
+@Slf4j
+@Component
+public class OrderAmountConsumer {
+
+    private static final String CONSUMER = "current-amount";
+
+    private final ProcessedOrderEventMapper processedOrderEventMapper;
+    private final ProductService productService;
+    private final FundingLifecycleEngine fundingLifecycleEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderAmountConsumer(ProcessedOrderEventMapper processedOrderEventMapper,
+                               ProductService productService,
+                               FundingLifecycleEngine fundingLifecycleEngine,
+                               PlatformTransactionManager transactionManager) {
+        this.processedOrderEventMapper = processedOrderEventMapper;
+        this.productService = productService;
+        this.fundingLifecycleEngine = fundingLifecycleEngine;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @KafkaListener(topics = "order-created", groupId = "funding-current-amount",
+            containerFactory = "orderCreatedListenerContainerFactory")
+    public void consume(OrderCreatedEvent event) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (processedOrderEventMapper.markProcessed(CONSUMER, event.getOrderId()) == 0) {
+                log.debug("이미 반영된 주문 - orderId: {}", event.getOrderId());
+                return;
+            }
+            productService.applyOrderAmount(event.getFundingId(), event.getTotalPrice());
+        });
+        fundingLifecycleEngine.reevaluateLateOrder(event.getFundingId(), event.getCreatedAt());
+    }
+}
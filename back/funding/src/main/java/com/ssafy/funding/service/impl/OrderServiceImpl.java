@@ -19,8 +19,8 @@ public class OrderServiceImpl implements OrderService {
         Funding funding = orderMapper.isOngoing(fundingId);
 
         if (funding == null) {
-            return IsOngoingResponseDto.of(false, 0);
+            return IsOngoingResponseDto.of(false, 0, null);
         }
-        return IsOngoingResponseDto.of(true,funding.getSellerId());
+        return IsOngoingResponseDto.of(true, funding.getSellerId(), funding.getEndDate());
     }
 }
@@ -0,0 +1,36 @@
+package com.ssafy.funding.service.impl;
+
+import com.ssafy.funding.event.OrderCreatedEvent;
+import com.ssafy.funding.mapper.FundingStatsMapper;
+import com.ssafy.funding.mapper.ProcessedOrderEventMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 생성 이벤트 컨슈머 - 판매자/펀딩 주문 통계(funding_stats 주문 수, 구매자 수) 반영
+ * - 처리 기록(processed_order_event)과 통계 증가를 한 트랜잭션으로 묶어 주문당 한 번만 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatsConsumer {
+
+    private static final String CONSUMER = "funding-stats";
+
+    private final ProcessedOrderEventMapper processedOrderEventMapper;
+    private final FundingStatsMapper fundingStatsMapper;
+
+    @Transactional
+    @KafkaListener(topics = "order-created", groupId = "funding-stats",
+            containerFactory = "orderCreatedListenerContainerFactory")
+    public void consume(OrderCreatedEvent event) {
+        if (processedOrderEventMapper.markProcessed(CONSUMER, event.getOrderId()) == 0) {
+            log.debug("이미 반영된 주문 - orderId: {}", event.getOrderId());
+            return;
+        }
+        fundingStatsMapper.addOrder(event.getFundingId(), event.isFirstOrder() ? 1 : 0);
+    }
+}
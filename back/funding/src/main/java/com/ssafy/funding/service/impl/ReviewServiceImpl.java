@@ -4,10 +4,14 @@ import com.ssafy.funding.common.exception.CustomException;
 import com.ssafy.funding.dto.review.request.ReviewCreateRequestDto;
 import com.ssafy.funding.dto.review.request.ReviewUpdateRequestDto;
 import com.ssafy.funding.dto.review.response.ReviewDto;
+import com.ssafy.funding.dto.review.response.ReviewPageResponseDto;
+import com.ssafy.funding.dto.review.response.ReviewSummaryDto;
 import com.ssafy.funding.dto.review.response.SingleReviewResponseDto;
 import com.ssafy.funding.dto.review.response.ReviewListResponseDto;
+import com.ssafy.funding.entity.FundingStats;
 import com.ssafy.funding.entity.Review;
 import com.ssafy.funding.entity.enums.Status;
+import com.ssafy.funding.mapper.FundingStatsMapper;
 import com.ssafy.funding.mapper.ReviewMapper;
 import com.ssafy.funding.service.ProductService;
 import com.ssafy.funding.service.ReviewService;
@@ -23,7 +27,10 @@ import static com.ssafy.funding.common.response.ResponseCode.*;
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final int REVIEW_PAGE_SIZE = 5;
+
     private final ReviewMapper reviewMapper;
+    private final FundingStatsMapper fundingStatsMapper;
     private final ProductService productService;
 
 
@@ -38,13 +45,31 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     public ReviewListResponseDto getReviewsByFundingId(int fundingId) {
         List<Review> reviews = reviewMapper.findByFundingId(fundingId);
-        return aggregateRatingAndReviews(reviews);
+        return aggregateRatingAndReviews(fundingStatsMapper.findByFundingId(fundingId), reviews);
     }
 
     @Override
     public ReviewListResponseDto getReviewsBySellerId(int sellerId) {
         List<Review> reviews = reviewMapper.findBySellerId(sellerId);
-        return aggregateRatingAndReviews(reviews);
+        return aggregateRatingAndReviews(fundingStatsMapper.getSellerReviewStats(sellerId), reviews);
+    }
+
+    // 펀딩 리뷰 키셋 조회, 첫 페이지는 집계(funding_stats) 한 행으로 요약 포함
+    @Override
+    public ReviewPageResponseDto getReviewPageByFundingId(int fundingId, String cursor) {
+        Integer lastReviewId = decodeCursor(cursor);
+        List<ReviewDto> reviews = reviewMapper.findPageByFundingId(fundingId, lastReviewId, REVIEW_PAGE_SIZE + 1);
+        ReviewSummaryDto summary = lastReviewId == null ? ReviewSummaryDto.from(fundingStatsMapper.findByFundingId(fundingId)) : null;
+        return toPage(summary, reviews);
+    }
+
+    // 판매자 리뷰 키셋 조회 (브랜드 만족도)
+    @Override
+    public ReviewPageResponseDto getReviewPageBySellerId(int sellerId, String cursor) {
+        Integer lastReviewId = decodeCursor(cursor);
+        List<ReviewDto> reviews = reviewMapper.findPageBySellerId(sellerId, lastReviewId, REVIEW_PAGE_SIZE + 1);
+        ReviewSummaryDto summary = lastReviewId == null ? ReviewSummaryDto.from(fundingStatsMapper.getSellerReviewStats(sellerId)) : null;
+        return toPage(summary, reviews);
     }
 
     @Override
@@ -59,9 +84,11 @@ public class ReviewServiceImpl implements ReviewService {
         Status status = productService.getFundingStatus(dto.fundingId());
         if (status != Status.SUCCESS) throw new CustomException(REVIEW_NOT_ALLOWED);
         if (reviewMapper.existsByUserIdAndFundingId(userId, dto.fundingId())) throw new CustomException(REVIEW_ALREADY_EXISTS);
+        validateRating(dto.rating());
 
         Review review = dto.toEntity(userId);
         reviewMapper.createReview(review);
+        fundingStatsMapper.applyReviewChange(review.getFundingId(), review.getRating(), 0);
     }
 
     @Override
@@ -69,9 +96,12 @@ public class ReviewServiceImpl implements ReviewService {
     public void updateReview(int userId, int reviewId, ReviewUpdateRequestDto dto) {
         Review review = findByReviewId(reviewId);
         validateReviewAccess(review, userId);
+        validateRating(dto.rating());
 
+        int previousRating = review.getRating();
         review.update(dto.content(), dto.rating());
         reviewMapper.updateReview(review);
+        fundingStatsMapper.applyReviewChange(review.getFundingId(), review.getRating(), previousRating);
     }
 
     @Override
@@ -81,21 +111,20 @@ public class ReviewServiceImpl implements ReviewService {
         validateReviewAccess(review, userId);
 
         reviewMapper.deleteReview(reviewId);
+        fundingStatsMapper.applyReviewChange(review.getFundingId(), 0, review.getRating());
     }
 
     private Review findByReviewId(int reviewId) {
         return reviewMapper.findById(reviewId);
     }
 
-    private ReviewListResponseDto aggregateRatingAndReviews(List<Review> reviews) {
+    // 평균 평점은 목록을 다시 계산하지 않고 집계(funding_stats) 값 사용
+    private ReviewListResponseDto aggregateRatingAndReviews(FundingStats stats, List<Review> reviews) {
         if (reviews.isEmpty()) {
             return new ReviewListResponseDto(0f, List.of());
         }
 
-        float average = (float) reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
-                .orElse(0.0);
+        float average = stats == null ? 0f : stats.averageRating();
 
         List<SingleReviewResponseDto> responseList = reviews.stream()
                 .map(SingleReviewResponseDto::fromEntity)
@@ -104,6 +133,28 @@ public class ReviewServiceImpl implements ReviewService {
         return new ReviewListResponseDto(average, responseList);
     }
 
+    // 한 건 더 조회한 결과로 다음 페이지 여부와 커서(마지막 review_id) 결정
+    private ReviewPageResponseDto toPage(ReviewSummaryDto summary, List<ReviewDto> reviews) {
+        boolean hasNext = reviews.size() > REVIEW_PAGE_SIZE;
+        if (hasNext) reviews = reviews.subList(0, REVIEW_PAGE_SIZE);
+        String nextCursor = hasNext ? String.valueOf(reviews.get(reviews.size() - 1).getReviewId()) : null;
+        return ReviewPageResponseDto.of(summary, reviews, nextCursor);
+    }
+
+    // 빈 문자열이면 첫 페이지(null) 로 취급
+    private Integer decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return Integer.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    private void validateRating(int rating) {
+        if (rating < 1 || rating > 5) throw new CustomException(INVALID_REVIEW_RATING);
+    }
+
     private void validateReviewAccess(Review review, int userId) {
         if (review == null) throw new CustomException(REVIEW_NOT_FOUND);
         if (review.getUserId() != userId) throw new CustomException(FORBIDDEN_REVIEW_ACCESS);
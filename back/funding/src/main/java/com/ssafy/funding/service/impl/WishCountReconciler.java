@@ -0,0 +1,71 @@
+package com.ssafy.funding.service.impl;
+
+import com.ssafy.funding.leaderboard.FundingLeaderboard;
+import com.ssafy.funding.mapper.FundingMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 찜 수(funding.wish_count) 백필 및 정합성 보정
+ * - 찜 수는 찜 추가/삭제 시 증감으로 유지하고, 이 작업은 wishlist 집계와 어긋난 값만 funding_id 구간 단위로 맞춥니다.
+ * - 구간 단위로 나눠 실행하므로 한 번에 잠그는 funding 행 수가 chunk-size 로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class WishCountReconciler {
+
+    private final FundingMapper fundingMapper;
+    private final FundingLeaderboard fundingLeaderboard;
+    private final int chunkSize;
+    private final Counter driftCounter;
+
+    public WishCountReconciler(FundingMapper fundingMapper,
+                               FundingLeaderboard fundingLeaderboard,
+                               MeterRegistry meterRegistry,
+                               @Value("${funding.wish-count.chunk-size:1000}") int chunkSize) {
+        this.fundingMapper = fundingMapper;
+        this.fundingLeaderboard = fundingLeaderboard;
+        this.chunkSize = chunkSize;
+        this.driftCounter = Counter.builder("funding.wish-count.drift").register(meterRegistry);
+    }
+
+    /**
+     * 전체 펀딩의 찜 수를 wishlist 집계값으로 채운 뒤 랭킹을 재구성합니다. (컬럼 추가 직후 1회)
+     *
+     * @return 값이 바뀐 펀딩 수
+     */
+    public int backfill() {
+        int updated = 0;
+        int maxFundingId = fundingMapper.getMaxFundingId();
+        for (int fromId = 1; fromId <= maxFundingId; fromId += chunkSize) {
+            updated += fundingMapper.recalculateWishCounts(fromId, fromId + chunkSize - 1);
+        }
+        fundingLeaderboard.rebuild();
+        log.info("찜 수 백필 완료 - updated: {}", updated);
+        return updated;
+    }
+
+    // 어긋난 찜 수를 찾아 보정하고 랭킹에도 반영
+    @Scheduled(cron = "${funding.wish-count.check-cron:0 40 4 * * ?}")
+    public void check() {
+        int drifted = 0;
+        int maxFundingId = fundingMapper.getMaxFundingId();
+        for (int fromId = 1; fromId <= maxFundingId; fromId += chunkSize) {
+            int toId = fromId + chunkSize - 1;
+            List<Integer> driftIds = fundingMapper.findWishCountDrifts(fromId, toId);
+            if (driftIds.isEmpty()) continue;
+
+            fundingMapper.recalculateWishCounts(fromId, toId);
+            driftIds.forEach(fundingLeaderboard::updateWishCount);
+            drifted += driftIds.size();
+        }
+        driftCounter.increment(drifted);
+        if (drifted > 0) log.warn("찜 수 보정 - count: {}", drifted);
+    }
+}
@@ -7,11 +7,14 @@ import com.ssafy.funding.common.response.ResponseCode;
 import com.ssafy.funding.dto.funding.response.UserWishlistFundingDto;
 import com.ssafy.funding.entity.Funding;
 import com.ssafy.funding.entity.WishList;
+import com.ssafy.funding.event.FundingChangedEvent;
 import com.ssafy.funding.mapper.FundingMapper;
+import com.ssafy.funding.mapper.FundingStatsMapper;
 import com.ssafy.funding.mapper.WishListMapper;
 import com.ssafy.funding.service.WishListService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,12 +30,19 @@ public class WishListServiceImpl implements WishListService {
 
     private final WishListMapper wishListMapper;
     private final FundingMapper fundingMapper;
+    private final FundingStatsMapper fundingStatsMapper;
     private final SellerClient sellerClient;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 찜 수(wish_count)는 찜 추가/삭제와 같은 트랜잭션에서 증감, 랭킹은 커밋 이후 이벤트로 갱신
     @Override
+    @Transactional
     public void createWish(int userId, int fundingId) {
         if (wishListMapper.existsByUserIdAndFundingId(userId, fundingId)) throw new CustomException(ResponseCode.WISHLIST_ALREADY_EXISTS);
         wishListMapper.createWish(WishList.createWish(userId, fundingId));
+        fundingMapper.addWishCount(fundingId, 1);
+        fundingStatsMapper.addWish(fundingId, 1);
+        eventPublisher.publishEvent(FundingChangedEvent.wishChanged(fundingId));
     }
 
     @Override
@@ -46,9 +56,15 @@ public class WishListServiceImpl implements WishListService {
     }
 
     @Override
+    @Transactional
     public void deleteWish(int userId, int fundingId) {
         if (!wishListMapper.existsByUserIdAndFundingId(userId, fundingId))  throw new CustomException(ResponseCode.WISHLIST_NOT_FOUND);
-        wishListMapper.deleteWish(userId, fundingId);
+        int deleted = wishListMapper.deleteWish(userId, fundingId);
+        if (deleted > 0) {
+            fundingMapper.addWishCount(fundingId, -deleted);
+            fundingStatsMapper.addWish(fundingId, -deleted);
+        }
+        eventPublisher.publishEvent(FundingChangedEvent.wishChanged(fundingId));
     }
 
     @Override
@@ -0,0 +1,77 @@
+package com.ssafy.funding.dto.funding.request;
+
+import com.ssafy.funding.common.exception.CustomException;
+import com.ssafy.funding.common.util.CursorUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static com.ssafy.funding.common.response.ResponseCode.INVALID_CURSOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키셋 페이지네이션 커서 인코딩/디코딩 테스트
+ * - 정렬키가 그대로 복원되는지, 다른 정렬/카테고리/토픽의 목록이나 손상된 토큰은 거부되는지 확인합니다.
+ */
+class FundingCursorTest {
+
+    private static final String QUERY = CursorUtil.queryHash("latest", List.of("FOOD", "BEAUTY"));
+
+    @Test
+    void roundTripPreservesSortKeys() {
+        FundingCursor cursor = new FundingCursor(QUERY, LocalDateTime.of(2026, 1, 2, 3, 4, 5), null, 150_000, 42, 987);
+
+        FundingCursor decoded = FundingCursor.decode(cursor.encode(), QUERY);
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(FundingCursor.decode(null, QUERY)).isNull();
+        assertThat(FundingCursor.decode("", QUERY)).isNull();
+    }
+
+    @Test
+    void cursorIsBoundToSortAndCategories() {
+        String token = new FundingCursor(QUERY, LocalDateTime.now(), LocalDateTime.now(), 0, 0, 1).encode();
+
+        // 카테고리 순서는 같은 조건으로 봄
+        assertThat(FundingCursor.decode(token, CursorUtil.queryHash("latest", List.of("BEAUTY", "FOOD")))).isNotNull();
+        assertInvalid(() -> FundingCursor.decode(token, CursorUtil.queryHash("amount", List.of("FOOD", "BEAUTY"))));
+        assertInvalid(() -> FundingCursor.decode(token, CursorUtil.queryHash("latest", List.of("FOOD"))));
+        assertInvalid(() -> FundingCursor.decode(token, CursorUtil.queryHash("latest", null)));
+    }
+
+    @Test
+    void specialCursorIsBoundToTopic() {
+        String best = CursorUtil.queryHash("none", "best");
+        String token = new FundingCursor(best, null, LocalDateTime.now(), 0, 10, 1).encode();
+
+        assertThat(FundingCursor.decode(token, best)).isNotNull();
+        assertInvalid(() -> FundingCursor.decode(token, CursorUtil.queryHash("none", "soon")));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertInvalid(() -> FundingCursor.decode("%%%", QUERY));
+        assertInvalid(() -> FundingCursor.decode(encodeRaw(QUERY + "|||0|0"), QUERY));
+        assertInvalid(() -> FundingCursor.decode(encodeRaw(QUERY + "|||abc|0|1"), QUERY));
+        assertInvalid(() -> FundingCursor.decode(encodeRaw(QUERY + "|yesterday||0|0|1"), QUERY));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getResponseCode())
+                .isEqualTo(INVALID_CURSOR);
+    }
+}
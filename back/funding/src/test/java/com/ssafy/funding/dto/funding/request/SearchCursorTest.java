@@ -0,0 +1,69 @@
+package com.ssafy.funding.dto.funding.request;
+
+import com.ssafy.funding.common.exception.CustomException;
+import com.ssafy.funding.common.util.CursorUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static com.ssafy.funding.common.response.ResponseCode.INVALID_CURSOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 검색 search_after 커서 인코딩/디코딩 테스트
+ * - 정렬 값이 타입 그대로 복원되는지, 다른 정렬/검색어/카테고리의 요청이나 손상된 토큰은 거부되는지 확인합니다.
+ */
+class SearchCursorTest {
+
+    private static final String QUERY = CursorUtil.queryHash("none", "캠핑", "FOOD");
+
+    @Test
+    void roundTripPreservesSortValues() {
+        // ES 정렬 값 : _score(float), 날짜(epoch millis), funding_id
+        List<Object> values = List.of(12.5, 1_735_689_600_000L, 123);
+
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor(QUERY, values).encode(), QUERY);
+
+        assertThat(decoded.query()).isEqualTo(QUERY);
+        assertThat(decoded.values()).containsExactly(12.5, 1_735_689_600_000L, 123);
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(SearchCursor.decode(null, QUERY)).isNull();
+        assertThat(SearchCursor.decode(" ", QUERY)).isNull();
+    }
+
+    @Test
+    void cursorIsBoundToSortKeywordAndCategory() {
+        String token = new SearchCursor(QUERY, List.of(1.0, 1)).encode();
+
+        assertThat(SearchCursor.decode(token, CursorUtil.queryHash("none", "캠핑", "FOOD"))).isNotNull();
+        assertInvalid(() -> SearchCursor.decode(token, CursorUtil.queryHash("latest", "캠핑", "FOOD")));
+        assertInvalid(() -> SearchCursor.decode(token, CursorUtil.queryHash("none", "텐트", "FOOD")));
+        assertInvalid(() -> SearchCursor.decode(token, CursorUtil.queryHash("none", "캠핑", "BEAUTY")));
+        assertInvalid(() -> SearchCursor.decode(token, CursorUtil.queryHash("none", "캠핑", null)));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertInvalid(() -> SearchCursor.decode("not-base64!", QUERY));
+        assertInvalid(() -> SearchCursor.decode(encodeRaw("{\"query\":\"" + QUERY + "\"}"), QUERY));
+        assertInvalid(() -> SearchCursor.decode(encodeRaw("{\"query\":\"" + QUERY + "\",\"values\":[]}"), QUERY));
+        assertInvalid(() -> SearchCursor.decode(encodeRaw("[1,2,3]"), QUERY));
+    }
+
+    private static String encodeRaw(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getResponseCode())
+                .isEqualTo(INVALID_CURSOR);
+    }
+}
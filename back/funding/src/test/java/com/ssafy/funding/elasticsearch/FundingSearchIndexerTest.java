@@ -0,0 +1,145 @@
+package com.ssafy.funding.elasticsearch;
+
+import com.ssafy.funding.document.FundingDocument;
+import com.ssafy.funding.entity.Funding;
+import com.ssafy.funding.entity.FundingSearchOutbox;
+import com.ssafy.funding.entity.FundingSearchOutbox.Operation;
+import com.ssafy.funding.mapper.FundingMapper;
+import com.ssafy.funding.mapper.FundingSearchOutboxMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException.FailureDetails;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 검색 색인 아웃박스 처리 테스트
+ * - 같은 펀딩 중복 항목 병합, bulk 응답의 문서별 실패 재시도, 재시도 한도 도달 시 보류를 확인합니다.
+ */
+class FundingSearchIndexerTest {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private FundingSearchOutboxMapper outboxMapper;
+    private FundingMapper fundingMapper;
+    private ElasticsearchService elasticsearchService;
+    private FundingSearchIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        outboxMapper = mock(FundingSearchOutboxMapper.class);
+        fundingMapper = mock(FundingMapper.class);
+        elasticsearchService = mock(ElasticsearchService.class);
+        indexer = new FundingSearchIndexer(outboxMapper, fundingMapper, elasticsearchService,
+                new SimpleMeterRegistry(), BATCH_SIZE, 1000, 300_000, MAX_ATTEMPTS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void duplicateEntriesForSameFundingAreProcessedOnce() {
+        givenDue(outbox(1, 10, Operation.UPSERT, 0),
+                outbox(2, 10, Operation.UPSERT, 0),
+                outbox(3, 20, Operation.UPSERT, 0),
+                outbox(4, 20, Operation.DELETE, 0));
+        when(fundingMapper.findAllByIds(List.of(10))).thenReturn(List.of(funding(10)));
+
+        indexer.flush();
+
+        // 같은 펀딩은 마지막 작업만 반영 (10 은 색인 한 번, 20 은 삭제)
+        ArgumentCaptor<List<FundingDocument>> documents = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchService).bulkIndexFundings(documents.capture());
+        assertThat(documents.getValue()).extracting(FundingDocument::getFundingId).containsExactly(10);
+        verify(elasticsearchService).bulkDeleteFundings(List.of(20));
+        verify(outboxMapper).deleteByIds(List.of(1L, 2L, 3L, 4L));
+        verify(outboxMapper, never()).markFailed(anyList(), any());
+    }
+
+    @Test
+    void onlyFailedDocumentsAreRetried() {
+        givenDue(outbox(1, 10, Operation.UPSERT, 0),
+                outbox(2, 20, Operation.UPSERT, 0),
+                outbox(3, 20, Operation.UPSERT, 0));
+        when(fundingMapper.findAllByIds(List.of(10, 20))).thenReturn(List.of(funding(10), funding(20)));
+        doThrow(bulkFailure(20)).when(elasticsearchService).bulkIndexFundings(anyList());
+
+        indexer.flush();
+
+        // 성공한 문서의 항목은 삭제, 실패한 문서의 항목(중복 포함)만 재시도
+        verify(outboxMapper).deleteByIds(List.of(1L));
+        verify(outboxMapper).markFailed(eq(List.of(2L, 3L)), any(LocalDateTime.class));
+        verify(outboxMapper, never()).park(anyList());
+    }
+
+    @Test
+    void failedDocumentIsParkedAtMaxAttempts() {
+        givenDue(outbox(1, 10, Operation.UPSERT, MAX_ATTEMPTS - 1),
+                outbox(2, 20, Operation.UPSERT, 0));
+        when(fundingMapper.findAllByIds(List.of(10, 20))).thenReturn(List.of(funding(10), funding(20)));
+        doThrow(bulkFailure(10, 20)).when(elasticsearchService).bulkIndexFundings(anyList());
+
+        indexer.flush();
+
+        // 한도에 도달한 항목은 보류, 나머지는 백오프 후 재시도
+        verify(outboxMapper).park(List.of(1L));
+        verify(outboxMapper).markFailed(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(outboxMapper, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void requestFailureRetriesWholeBatchWithoutParking() {
+        givenDue(outbox(1, 10, Operation.UPSERT, MAX_ATTEMPTS - 1),
+                outbox(2, 20, Operation.DELETE, 0));
+        when(fundingMapper.findAllByIds(List.of(10))).thenReturn(List.of(funding(10)));
+        doThrow(new IllegalStateException("connection refused")).when(elasticsearchService).bulkIndexFundings(anyList());
+
+        indexer.flush();
+
+        // 어느 문서가 반영됐는지 알 수 없으므로 한도와 관계없이 배치 전체를 재시도 (시도 횟수별 백오프)
+        verify(outboxMapper).markFailed(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxMapper).markFailed(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(outboxMapper, never()).park(anyList());
+        verify(outboxMapper, never()).deleteByIds(anyList());
+    }
+
+    private void givenDue(FundingSearchOutbox... outboxes) {
+        when(outboxMapper.findDue(anyInt())).thenReturn(List.of(outboxes));
+    }
+
+    private static FundingSearchOutbox outbox(long outboxId, int fundingId, Operation operation, int attempts) {
+        return new FundingSearchOutbox(outboxId, fundingId, operation, attempts, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static Funding funding(int fundingId) {
+        Funding funding = new Funding();
+        funding.setFundingId(fundingId);
+        funding.setTitle("funding-" + fundingId);
+        funding.setTargetAmount(10_000);
+        return funding;
+    }
+
+    private static BulkFailureException bulkFailure(Integer... fundingIds) {
+        Map<String, FailureDetails> failed = new HashMap<>();
+        for (Integer fundingId : fundingIds) {
+            failed.put(String.valueOf(fundingId), new FailureDetails(429, "es_rejected_execution_exception"));
+        }
+        return new BulkFailureException("bulk failure", failed);
+    }
+}
@@ -0,0 +1,156 @@
+package com.ssafy.funding.lifecycle;
+
+import com.ssafy.funding.lifecycle.HierarchicalTimingWheel.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠 테스트
+ * - tick 10ms, 휠 크기 4 : 하위 휠 [0, 40), 상위 휠 40ms / 160ms / 640ms 단위
+ * - 항목은 마감이 속한 틱이 끝나는 시각에 만료돼야 합니다. (마감 전 만료 없음, 최대 한 틱 지연)
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 4;
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void deadlinesInSameTickExpireTogetherAtTickEnd() {
+        assertThat(wheel.add(new Entry<>(21, "a"))).isTrue();
+        assertThat(wheel.add(new Entry<>(25, "b"))).isTrue();
+        assertThat(wheel.add(new Entry<>(29, "c"))).isTrue();
+
+        advance(29);
+        assertThat(expired).isEmpty();
+
+        advance(30);
+        assertThat(expired).containsExactly("a", "b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineIsRejectedButCurrentTickIsScheduled() {
+        advance(100);
+
+        // 현재 틱(100) 이전 마감은 호출 측에서 즉시 처리
+        assertThat(wheel.add(new Entry<>(50, "past"))).isFalse();
+        assertThat(wheel.add(new Entry<>(99, "justPast"))).isFalse();
+        assertThat(wheel.size()).isZero();
+
+        // 현재 틱 안의 마감은 틱이 끝날 때 만료
+        assertThat(wheel.add(new Entry<>(105, "current"))).isTrue();
+        advance(109);
+        assertThat(expired).isEmpty();
+        advance(110);
+        assertThat(expired).containsExactly("current");
+    }
+
+    @Test
+    void overflowEntriesCascadeWithoutExpiringEarly() {
+        // 하위 휠 범위(40ms) 밖이라 상위 휠에 등록
+        wheel.add(new Entry<>(45, "near"));
+        wheel.add(new Entry<>(100, "far"));
+        assertThat(wheel.size()).isEqualTo(2);
+
+        // 40 에 상위 휠 버킷 [40, 80) 이 내려오지만 마감(45) 전에는 만료되지 않음
+        advance(40);
+        assertThat(expired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        advance(50);
+        assertThat(expired).containsExactly("near");
+
+        advance(109);
+        assertThat(expired).containsExactly("near");
+        advance(110);
+        assertThat(expired).containsExactly("near", "far");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesBeyondTwoLevelsExpireAtTheirTick() {
+        // 160 이상은 세 번째, 640 이상은 네 번째 휠에 등록
+        long[] deadlines = {35, 159, 160, 639, 640, 1000, 2559, 2560, 9999};
+        for (long deadline : deadlines) {
+            assertThat(wheel.add(new Entry<>(deadline, String.valueOf(deadline)))).isTrue();
+        }
+        assertThat(wheel.size()).isEqualTo(deadlines.length);
+
+        Map<String, Long> firedAt = stepUntil(10_000);
+
+        for (long deadline : deadlines) {
+            assertThat(firedAt).containsEntry(String.valueOf(deadline), expectedFireTime(deadline));
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void randomDeadlinesAcrossLevelsExpireInOrderAtTheirTick() {
+        Random random = new Random(42);
+        Map<String, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = random.nextLong(20_000);
+            String value = "e" + i;
+            deadlines.put(value, deadline);
+            wheel.add(new Entry<>(deadline, value));
+        }
+        // 진행 중에 추가되는 항목도 같은 규칙을 따름
+        advance(5_000);
+        for (int i = 0; i < 500; i++) {
+            long deadline = 5_000 + random.nextLong(15_000);
+            String value = "late" + i;
+            deadlines.put(value, deadline);
+            wheel.add(new Entry<>(deadline, value));
+        }
+        Map<String, Long> firedAt = stepUntil(20_010);
+
+        deadlines.forEach((value, deadline) -> {
+            if (deadline < 5_000) return;
+            assertThat(firedAt.get(value)).as(value).isEqualTo(expectedFireTime(deadline));
+        });
+        assertThat(expired).hasSize(deadlines.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void largeJumpExpiresEverythingInDeadlineOrder() {
+        wheel.add(new Entry<>(3000, "c"));
+        wheel.add(new Entry<>(30, "a"));
+        wheel.add(new Entry<>(700, "b"));
+
+        advance(100_000);
+
+        assertThat(expired).containsExactly("a", "b", "c");
+    }
+
+    private void advance(long nowMs) {
+        wheel.advance(nowMs, entry -> expired.add(entry.value()));
+    }
+
+    // 한 틱씩 진행하며 각 항목이 만료된 시각을 기록
+    private Map<String, Long> stepUntil(long untilMs) {
+        Map<String, Long> firedAt = new HashMap<>();
+        for (long now = TICK_MS; now <= untilMs; now += TICK_MS) {
+            long at = now;
+            wheel.advance(now, entry -> {
+                expired.add(entry.value());
+                firedAt.put(entry.value(), at);
+            });
+        }
+        return firedAt;
+    }
+
+    private static long expectedFireTime(long deadline) {
+        return (deadline / TICK_MS + 1) * TICK_MS;
+    }
+}
@@ -0,0 +1,85 @@
+package com.notification.broadcast;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 펀딩 금액(/topic/totalAmount) 브로드캐스터
+ * - 주문마다 들어오는 금액 갱신을 window 동안 모아 마지막 값 하나만 전송합니다.
+ * - 첫 갱신이 들어오면 window 뒤에 한 번 flush 를 예약하고, 그 사이의 갱신은 값만 덮어씁니다.
+ *   따라서 구독자에게는 window 당 최대 1 프레임만 나가며, 갱신이 없으면 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TotalAmountBroadcaster {
+
+    public static final String DESTINATION = "/topic/totalAmount";
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final long windowMillis;
+
+    private final AtomicReference<Long> latest = new AtomicReference<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "total-amount-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter receivedCounter;
+    private final Counter sentCounter;
+
+    public TotalAmountBroadcaster(SimpMessagingTemplate simpMessagingTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notification.total-amount.coalesce-window-ms:200}") long windowMillis) {
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.windowMillis = windowMillis;
+        this.receivedCounter = Counter.builder("notification.total-amount.updates")
+                .description("수신한 전체 금액 갱신 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("notification.total-amount.frames")
+                .description("구독자에게 전송한 브로드캐스트 수")
+                .register(meterRegistry);
+    }
+
+    // 금액 갱신 수신 : 값만 교체하고, 예약된 flush 가 없을 때만 새로 예약
+    public void submit(Long totalAmount) {
+        if (totalAmount == null) return;
+        receivedCounter.increment();
+        latest.set(totalAmount);
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        // 전송 전에 플래그를 내려야 전송 중 들어온 갱신이 다음 window 로 예약됨
+        flushScheduled.set(false);
+        Long value = latest.getAndSet(null);
+        if (value == null) return;
+
+        try {
+            simpMessagingTemplate.convertAndSend(DESTINATION, value);
+            sentCounter.increment();
+        } catch (Exception e) {
+            log.error("전체 금액 브로드캐스트 실패 totalAmount={}", value, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -1,10 +1,10 @@
 package com.notification.event;
 
+import com.notification.broadcast.TotalAmountBroadcaster;
 import com.notification.client.FundingClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
@@ -15,7 +15,7 @@ public class WebSocketEventListener {
     private StringRedisTemplate redisTemplate;
 
     @Autowired
-    private SimpMessagingTemplate simpMessagingTemplate;
+    private TotalAmountBroadcaster totalAmountBroadcaster;
 
     @Autowired
     private FundingClient fundingClient;
@@ -28,15 +28,14 @@ public class WebSocketEventListener {
         String destination = headerAccessor.getDestination();
 
         // 사용자가 "/topic/totalAmount" 구독 시 실행
-        if ("/topic/totalAmount".equals(destination)) {
+        if (TotalAmountBroadcaster.DESTINATION.equals(destination)) {
+            // total_fund 는 주문마다 INCRBY 로 누적되는 카운터이므로 그대로 읽어서 전송
             String totalFundStr = redisTemplate.opsForValue().get(TOTAL_FUND_KEY);
-//            Long totalFund = Long.parseLong(redisTemplate.opsForValue().get(TOTAL_FUND_KEY));
-            Long totalFund = (totalFundStr != null) ? Long.parseLong(totalFundStr) : null;
-            if (totalFundStr == null) {
-                totalFund = fundingClient.getTotalFund();  // Redis에 없으면 조회
-                redisTemplate.opsForValue().set(TOTAL_FUND_KEY, String.valueOf(totalFund));
-            }
-            simpMessagingTemplate.convertAndSend("/topic/totalAmount", totalFund);
+            Long totalFund = (totalFundStr != null)
+                    ? Long.parseLong(totalFundStr)
+                    : fundingClient.getTotalFund();  // 카운터가 없으면 funding 서비스가 DB 합계로 초기화
+            // 구독 시점 값도 토픽 전체로 나가므로, 접속이 몰릴 때를 대비해 브로드캐스터로 합쳐서 전송
+            totalAmountBroadcaster.submit(totalFund);
         }
     }
 }
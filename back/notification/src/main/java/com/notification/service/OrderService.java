@@ -1,19 +1,22 @@
 package com.notification.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import com.notification.broadcast.TotalAmountBroadcaster;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class OrderService {
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final TotalAmountBroadcaster totalAmountBroadcaster;
 
-    public OrderService(SimpMessagingTemplate simpMessagingTemplate) {
+    public OrderService(SimpMessagingTemplate simpMessagingTemplate, TotalAmountBroadcaster totalAmountBroadcaster) {
         this.simpMessagingTemplate = simpMessagingTemplate;
+        this.totalAmountBroadcaster = totalAmountBroadcaster;
     }
 
+    // 주문마다 호출되므로 즉시 전송하지 않고 브로드캐스터에서 window 단위로 합쳐 전송
     public void sendToAllTotalOrderAmount(Long totalOrderAmount) {
-        simpMessagingTemplate.convertAndSend("/topic/totalAmount", totalOrderAmount);
+        totalAmountBroadcaster.submit(totalOrderAmount);
     }
 
     public void sendPaymentSuccessNotification(String userId, String message) {
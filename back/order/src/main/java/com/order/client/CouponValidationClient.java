@@ -0,0 +1,15 @@
+package com.order.client;
+
+import com.order.config.OrderValidationFeignConfig;
+import com.order.dto.coupon.CouponResponseDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+// 주문 전 검증 전용 (조회만, 주문 검증 제한 시간과 같은 타임아웃 적용)
+@FeignClient(name = "coupon", contextId = "couponValidation", configuration = OrderValidationFeignConfig.class)
+public interface CouponValidationClient {
+
+    @GetMapping("/api/coupon/info")
+    CouponResponseDto getCouponInfo(@RequestParam("couponId") int couponId);
+}
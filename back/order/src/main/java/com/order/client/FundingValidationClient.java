@@ -0,0 +1,15 @@
+package com.order.client;
+
+import com.order.config.OrderValidationFeignConfig;
+import com.order.dto.funding.response.IsOngoingResponseDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+// 주문 전 검증 전용 (조회만, 주문 검증 제한 시간과 같은 타임아웃 적용)
+@FeignClient(name = "funding", contextId = "fundingValidation", configuration = OrderValidationFeignConfig.class)
+public interface FundingValidationClient {
+
+    @GetMapping("api/funding/is-ongoing/{fundingId}")
+    IsOngoingResponseDto isOngoing(@PathVariable("fundingId") int fundingId);
+}
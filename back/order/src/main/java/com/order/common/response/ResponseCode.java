@@ -18,6 +18,8 @@ public enum ResponseCode {
     DATA_NOT_FOUND(404, HttpStatus.NOT_FOUND, "조회된 데이터가 없습니다."),
 
     FUNDING_NOT_ONGOING(204, HttpStatus.NO_CONTENT, "이미 종료된 펀딩입니다."),
+    ORDER_VALIDATION_TIMEOUT(504, HttpStatus.GATEWAY_TIMEOUT, "주문 검증이 제한 시간 안에 끝나지 않았습니다."),
+    ORDER_VALIDATION_BUSY(503, HttpStatus.SERVICE_UNAVAILABLE, "주문 요청이 많아 검증을 시작하지 못했습니다. 잠시 후 다시 시도해 주세요."),
     SSAFY_API_ERROR(404, HttpStatus.BAD_REQUEST, "결제 API 오류 입니다.");
 
     private final int code;
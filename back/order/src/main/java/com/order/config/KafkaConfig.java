@@ -0,0 +1,127 @@
+package com.order.config;
+
+import com.order.event.OrderCreatedEvent;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kafka 설정
+ * - OrderCreatedEvent 전송용 프로듀서와 order-created 토픽
+ * - 같은 토픽을 구독하는 order 서비스 내부 컨슈머(전체 모금액, 알림)용 리스너 팩토리
+ */
+@EnableKafka
+@Configuration
+public class KafkaConfig {
+
+    public static final String ORDER_CREATED_TOPIC = "order-created";
+    public static final String DLT_SUFFIX = ".DLT";
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    // 브로커 장애 시 send() 가 커밋 이후 스레드를 오래 붙잡지 않도록 제한 (실패분은 아웃박스 릴레이가 재전송)
+    @Value("${order.event.max-block-ms:1000}")
+    private long maxBlockMs;
+
+    @Bean
+    public ProducerFactory<String, OrderCreatedEvent> producerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, OrderCreatedEvent> kafkaTemplate() {
+        return new KafkaTemplate<>(producerFactory());
+    }
+
+    @Bean
+    public NewTopic orderCreatedTopic() {
+        // 토픽: order-created, key 가 fundingId 라 같은 펀딩의 주문은 같은 파티션에서 순서대로 처리됨
+        return new NewTopic(ORDER_CREATED_TOPIC, 3, (short) 1);
+    }
+
+    @Bean
+    public NewTopic orderCreatedDeadLetterTopic() {
+        // 재시도 후에도 처리하지 못한 주문 이벤트 (funding/order 의 모든 컨슈머 그룹이 공유)
+        return new NewTopic(ORDER_CREATED_TOPIC + DLT_SUFFIX, 1, (short) 1);
+    }
+
+    /**
+     * DLT 전송용 템플릿
+     * - 역직렬화에 실패한 레코드는 원본 byte[] 그대로, 처리에 실패한 레코드는 역직렬화된 이벤트를 JSON 으로 보냅니다.
+     *   (JsonSerializer 로 byte[] 를 보내면 base64 문자열로 바뀌어 원본을 복구할 수 없음)
+     */
+    @Bean
+    public KafkaTemplate<Object, Object> deadLetterKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps,
+                deadLetterSerializer(new StringSerializer()), deadLetterSerializer(new JsonSerializer<>())));
+    }
+
+    // byte[] 를 먼저 확인하고, 나머지 타입은 주어진 직렬화기로 처리
+    private static Serializer<Object> deadLetterSerializer(Serializer<?> fallback) {
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(Object.class, fallback);
+        return new DelegatingByTypeSerializer(delegates, true);
+    }
+
+    @Bean
+    public ConsumerFactory<String, OrderCreatedEvent> orderCreatedConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.order.event");
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderCreatedEvent.class.getName());
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> orderCreatedListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, OrderCreatedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderCreatedConsumerFactory());
+        // 처리 실패 시 1초 간격으로 3번 재시도 후 {topic}.DLT 로 보냄 (파티션을 지정하지 않아 DLT 파티션 수와 무관)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate(),
+                (record, ex) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 3L)));
+        return factory;
+    }
+}
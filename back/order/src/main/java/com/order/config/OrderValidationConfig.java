@@ -0,0 +1,31 @@
+package com.order.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class OrderValidationConfig {
+
+    // 주문 전 원격 검증(펀딩 진행 여부, 쿠폰 조회)을 동시에 실행하는 풀
+    // 원격 서비스가 느려질 때 작업이 무한정 쌓이지 않도록 대기열을 제한하고, 가득 차면 즉시 거절 (호출 측에서 503 으로 변환)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService orderValidationExecutor(@Value("${order.validation.pool-size:32}") int poolSize,
+                                                   @Value("${order.validation.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "order-validation-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
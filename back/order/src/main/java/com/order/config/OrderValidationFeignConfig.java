@@ -0,0 +1,22 @@
+package com.order.config;
+
+import feign.Request;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 검증 전용 Feign 클라이언트(FundingValidationClient, CouponValidationClient) 설정
+ * - 쿠폰 사용(useCoupon)처럼 부수 효과가 있는 호출이나 일괄 조회는 기존 클라이언트의 기본 타임아웃을 그대로 사용합니다.
+ * - 제한 시간이 지나 Future 를 취소해도 Feign 의 블로킹 I/O 는 인터럽트되지 않으므로,
+ *   연결/응답 타임아웃을 주문 검증 제한 시간과 맞춰 검증 스레드가 그 이상 붙잡히지 않게 합니다.
+ * - 컴포넌트 스캔 대상이 되면 모든 클라이언트에 적용되므로 @Configuration 을 붙이지 않습니다.
+ */
+public class OrderValidationFeignConfig {
+
+    @Bean
+    public Request.Options orderValidationRequestOptions(@Value("${order.validation.timeout-ms:3000}") long timeoutMs) {
+        return new Request.Options(timeoutMs, TimeUnit.MILLISECONDS, timeoutMs, TimeUnit.MILLISECONDS, true);
+    }
+}
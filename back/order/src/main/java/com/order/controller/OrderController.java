@@ -3,6 +3,7 @@ package com.order.controller;
 import com.order.dto.funding.response.*;
 import com.order.dto.funding.request.GetSellerTodayOrderCountRequestDto;
 import com.order.dto.funding.request.GetSellerTodayOrderTopThreeListRequestDto;
+import com.order.dto.order.response.MyFundingPageResponseDto;
 import com.order.dto.order.response.OrderResponseDto;
 import com.order.dto.seller.response.GetSellerMonthAmountStatisticsResponseDto;
 import com.order.dto.seller.response.TotalAmountResponseDto;
@@ -48,6 +49,14 @@ public class OrderController {
         return fundingList;
     }
 
+    // 내가 주문한 펀딩 페이지 조회 (펀딩별 주문 합계 포함, 최근 주문순)
+    @GetMapping("/funding/page")
+    public MyFundingPageResponseDto getMyFundingPage(@RequestHeader("X-User-Id") int userId,
+                                                     @RequestParam(name = "page", defaultValue = "0") int page,
+                                                     @RequestParam(name = "size", defaultValue = "10") int size){
+        return orderService.getMyFundingPage(userId, page, size);
+    }
+
     // 내 펀딩 내역 조회
     @GetMapping("/funding/total")
     public int getMyOrderPrice(@RequestHeader("X-User-Id") int userId){
@@ -96,5 +105,11 @@ public class OrderController {
         return orderService.getTotalOrderCount(fundingIds);
     }
 
+    // 펀딩별 주문 수, 구매자 수 (funding 서비스 funding_stats 보정용)
+    @PostMapping("/funding-stats")
+    public List<FundingOrderStatsResponseDto> getFundingOrderStats(@RequestBody List<Integer> fundingIdList) {
+        return orderService.getFundingOrderStats(fundingIdList);
+    }
+
 
 }
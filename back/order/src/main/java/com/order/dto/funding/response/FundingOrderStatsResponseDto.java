@@ -0,0 +1,16 @@
+package com.order.dto.funding.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FundingOrderStatsResponseDto {
+    private int fundingId;
+    private int orderCount;
+    private int buyerCount;
+}
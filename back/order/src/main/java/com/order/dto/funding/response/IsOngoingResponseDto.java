@@ -3,9 +3,12 @@ package com.order.dto.funding.response;
 import lombok.Data;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+
 @Data
 public class IsOngoingResponseDto {
 
     private Boolean isOngoing;
     private int sellerId;
+    private LocalDateTime endDate;
 }
@@ -0,0 +1,21 @@
+package com.order.dto.order.response;
+
+import com.order.dto.funding.response.FundingResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MyFundingPageResponseDto {
+    private List<FundingResponseDto> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+}
@@ -0,0 +1,10 @@
+package com.order.dto.order.response;
+
+import lombok.Data;
+
+// 사용자의 펀딩별 주문 합계
+@Data
+public class MyFundingSpendDto {
+    private int fundingId;
+    private int totalPrice;
+}
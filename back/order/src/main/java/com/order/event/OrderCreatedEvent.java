@@ -0,0 +1,24 @@
+package com.order.event;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 이벤트 (order-created 토픽, key = fundingId)
+ * - 주문 커밋 이후 발행되며, 펀딩 금액/구매자 통계/전체 모금액/알림 컨슈머가 각각 독립적으로 처리합니다.
+ * - 컨슈머는 orderId 로 중복 처리를 막으므로 같은 이벤트가 여러 번 전달되어도 됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderCreatedEvent {
+    private int orderId;
+    private int userId;
+    private int fundingId;
+    private int totalPrice;
+    private boolean firstOrder;        // 해당 펀딩에 대한 사용자의 첫 주문 여부 (구매자 수 집계용)
+    private LocalDateTime createdAt;
+}
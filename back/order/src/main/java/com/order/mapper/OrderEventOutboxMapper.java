@@ -0,0 +1,23 @@
+package com.order.mapper;
+
+import com.order.event.OrderCreatedEvent;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface OrderEventOutboxMapper {
+
+    // 주문과 같은 트랜잭션에서 저장 (nextAttemptAt 이전에는 릴레이가 건드리지 않음)
+    void insert(@Param("event") OrderCreatedEvent event, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 재시도 시각이 지난 항목을 오래된 순으로 조회
+    List<OrderCreatedEvent> findDue(@Param("limit") int limit);
+
+    void deleteByIds(@Param("orderIds") List<Integer> orderIds);
+
+    // 재시도 횟수 증가 및 다음 재시도 시각 지정
+    void markFailed(@Param("orderIds") List<Integer> orderIds, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -1,10 +1,13 @@
 package com.order.mapper;
 
+import com.order.dto.funding.response.FundingOrderStatsResponseDto;
+import com.order.dto.order.response.MyFundingSpendDto;
 import com.order.dto.order.response.OrderResponseDto;
 import com.order.entity.Order;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -18,6 +21,10 @@ public interface OrderMapper {
 
     List<Integer> getMyFundingIds(int userId);
 
+    // 사용자의 펀딩별 주문 합계 (최근 주문순, limit 가 null 이면 전체)
+    List<MyFundingSpendDto> getMyFundingSpends(@Param("userId") int userId, @Param("offset") Integer offset, @Param("limit") Integer limit);
+    int countMyFundings(@Param("userId") int userId);
+
     int getSellerTodayOrderCount(@Param("fundingIdList") List<Integer> fundingIdList);
     List<Order> getSellerFundingDetailOrderList(@Param("fundingId") int fundingId, @Param("page") int page);
     List<Order> getSellerMonthAmountStatistics(@Param("fundingIdList") List<Integer> fundingIdList);
@@ -31,4 +38,12 @@ public interface OrderMapper {
     int getTotalPriceByFundingId(@Param("fundingId") int fundingId, @Param("userId") int userId);
 
     List<Integer> getTotalOrderCount(List<Integer> fundingIds);
+
+    // 첫 주문이면 1, 이미 구매한 사용자면 0 (주문 트랜잭션 안에서 호출)
+    int insertFundingBuyer(@Param("userId") int userId, @Param("fundingId") int fundingId);
+    List<FundingOrderStatsResponseDto> getFundingOrderStats(@Param("fundingIdList") List<Integer> fundingIdList);
+
+    // total_fund 보정 : 기준 시각 이전에 생성된 마지막 주문 ID, 그 이하 주문의 결제 금액 합계
+    Integer getMaxOrderIdBefore(@Param("before") LocalDateTime before);
+    long sumTotalPriceUpTo(@Param("orderId") int orderId);
 }
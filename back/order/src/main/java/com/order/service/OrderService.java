@@ -3,6 +3,7 @@ package com.order.service;
 import com.order.dto.funding.request.GetSellerTodayOrderCountRequestDto;
 import com.order.dto.funding.request.GetSellerTodayOrderTopThreeListRequestDto;
 import com.order.dto.funding.response.*;
+import com.order.dto.order.response.MyFundingPageResponseDto;
 import com.order.dto.order.response.OrderResponseDto;
 import com.order.dto.seller.response.GetSellerMonthAmountStatisticsResponseDto;
 import com.order.dto.seller.response.TotalAmountResponseDto;
@@ -19,6 +20,7 @@ public interface OrderService {
     int getMyOrderPrice(int userId);
 
     List<FundingResponseDto> getMyFunding(int userId);
+    MyFundingPageResponseDto getMyFundingPage(int userId, int page, int size);
     GetSellerTodayOrderCountResponseDto getSellerTodayOrderCount(GetSellerTodayOrderCountRequestDto getSellerTodayOrderCountRequestDto);
     List<GetSellerFundingDetailOrderListResponseDto> getSellerFundingDetailOrderList(int fundingId, int page);
     List<GetSellerMonthAmountStatisticsResponseDto> getSellerMonthAmountStatistics(List<Integer> fundingIdList);
@@ -30,4 +32,6 @@ public interface OrderService {
 
     List<Integer> getTotalOrderCount(List<Integer> fundingIds);
 
+    List<FundingOrderStatsResponseDto> getFundingOrderStats(List<Integer> fundingIdList);
+
 }
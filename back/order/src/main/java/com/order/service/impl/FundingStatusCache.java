@@ -0,0 +1,51 @@
+package com.order.service.impl;
+
+import com.order.dto.funding.response.IsOngoingResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 주문 전 펀딩 진행 여부 로컬 캐시
+ * - 진행 중인 펀딩만 ttl 동안 담아 두고, 펀딩 종료 시각(end_date)이 지나면 ttl 이 남아 있어도 쓰지 않습니다.
+ *   종료 처리는 funding 서비스가 end_date 기준으로 하므로, 캐시로 인해 종료된 펀딩에 주문이 들어가는 구간은 없습니다.
+ * - 종료/삭제된 펀딩(진행 중이 아님)은 캐시하지 않고 매번 확인합니다.
+ */
+@Component
+public class FundingStatusCache {
+
+    private record Entry(IsOngoingResponseDto status, long expiresAt, LocalDateTime endDate) {
+        boolean isValid(long now) {
+            return now < expiresAt && (endDate == null || LocalDateTime.now().isBefore(endDate));
+        }
+    }
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMs;
+    private final int maxSize;
+
+    public FundingStatusCache(@Value("${order.funding-status.cache-ttl-ms:5000}") long ttlMs,
+                              @Value("${order.funding-status.cache-max-size:10000}") int maxSize) {
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    public IsOngoingResponseDto get(int fundingId, Supplier<IsOngoingResponseDto> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(fundingId);
+        if (entry != null && entry.isValid(now)) return entry.status();
+
+        IsOngoingResponseDto status = loader.get();
+        if (status != null && Boolean.TRUE.equals(status.getIsOngoing())) {
+            if (entries.size() >= maxSize) entries.values().removeIf(e -> !e.isValid(now));
+            if (entries.size() < maxSize) entries.put(fundingId, new Entry(status, now + ttlMs, status.getEndDate()));
+        } else {
+            entries.remove(fundingId);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,87 @@
+package com.order.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order.dto.order.response.MyFundingPageResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 "내가 주문한 펀딩" 페이지 캐시
+ * - 사용자당 해시 하나(order:my-funding:{userId})에 페이지(page:size)별 응답을 담고, 새 주문이 커밋되면 해시를 통째로 지웁니다.
+ * - 펀딩 진행률 등 펀딩 쪽 값은 ttl 동안만 캐시된 값을 보여줍니다.
+ * - 해시 필드가 페이지 수만큼 늘어나지 않도록 앞쪽 페이지(max-cached-pages 미만)만 캐시하고, 그 뒤 페이지는 바로 조회합니다.
+ * - Redis 장애 시에는 캐시 없이 DB/펀딩 서비스 조회로 응답합니다.
+ */
+@Slf4j
+@Component
+public class MyFundingCache {
+
+    private static final String KEY_PREFIX = "order:my-funding:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final int maxCachedPages;
+
+    public MyFundingCache(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${order.my-funding.cache-ttl-seconds:300}") long ttlSeconds,
+                          @Value("${order.my-funding.max-cached-pages:5}") int maxCachedPages) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxCachedPages = maxCachedPages;
+    }
+
+    public MyFundingPageResponseDto get(int userId, int page, int size, Supplier<MyFundingPageResponseDto> loader) {
+        if (page >= maxCachedPages) return loader.get();
+
+        String key = KEY_PREFIX + userId;
+        String field = page + ":" + size;
+        try {
+            Object cached = redisTemplate.opsForHash().get(key, field);
+            if (cached != null) return objectMapper.readValue(cached.toString(), MyFundingPageResponseDto.class);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("내 펀딩 캐시 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+
+        MyFundingPageResponseDto loaded = loader.get();
+        try {
+            redisTemplate.opsForHash().put(key, field, objectMapper.writeValueAsString(loaded));
+            redisTemplate.expire(key, ttl);
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("내 펀딩 캐시 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return loaded;
+    }
+
+    // 새 주문 반영 : 트랜잭션 안이면 커밋 이후에 지워 커밋 전 값이 다시 캐시되지 않게 함
+    public void evict(int userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(userId);
+                }
+            });
+            return;
+        }
+        delete(userId);
+    }
+
+    private void delete(int userId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (RuntimeException e) {
+            log.warn("내 펀딩 캐시 삭제 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+}
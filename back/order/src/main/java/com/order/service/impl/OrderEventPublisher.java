@@ -0,0 +1,88 @@
+package com.order.service.impl;
+
+import com.order.event.OrderCreatedEvent;
+import com.order.mapper.OrderEventOutboxMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.order.config.KafkaConfig.ORDER_CREATED_TOPIC;
+
+/**
+ * 주문 생성 이벤트 발행 (트랜잭셔널 아웃박스)
+ * - 주문 트랜잭션 안에서 order_event_outbox 에 행을 남기고, 커밋 이후 바로 Kafka 로 전송합니다.
+ * - 전송이 확인되면 아웃박스 행을 지우고, 실패하거나 커밋 직후 서버가 내려가 남은 행은 릴레이가 재전송합니다.
+ * - 같은 이벤트가 두 번 나갈 수 있으므로 컨슈머는 orderId 로 중복을 걸러야 합니다.
+ */
+@Slf4j
+@Component
+public class OrderEventPublisher {
+
+    private final KafkaTemplate<String, OrderCreatedEvent> kafkaTemplate;
+    private final OrderEventOutboxMapper outboxMapper;
+    private final int batchSize;
+    private final Duration retryDelay;
+
+    public OrderEventPublisher(KafkaTemplate<String, OrderCreatedEvent> kafkaTemplate,
+                               OrderEventOutboxMapper outboxMapper,
+                               @Value("${order.event.relay-batch-size:200}") int batchSize,
+                               @Value("${order.event.retry-delay-seconds:30}") long retryDelaySeconds) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxMapper = outboxMapper;
+        this.batchSize = batchSize;
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+    }
+
+    // 주문 트랜잭션 안에서 호출 : 커밋 직후 전송분과 겹치지 않도록 릴레이는 retryDelay 이후부터 집어감
+    public void publish(OrderCreatedEvent event) {
+        outboxMapper.insert(event, LocalDateTime.now().plus(retryDelay));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+            return;
+        }
+        send(event);
+    }
+
+    // 아웃박스 릴레이 : 커밋 이후 전송에 실패했거나 전송 전 종료된 이벤트 재전송
+    @Scheduled(fixedDelayString = "${order.event.relay-interval-ms:5000}")
+    public void relay() {
+        List<OrderCreatedEvent> due = outboxMapper.findDue(batchSize);
+        if (due.isEmpty()) return;
+
+        // 전송 결과를 기다리는 동안 다음 실행이 같은 행을 다시 집지 않도록 재시도 시각을 먼저 미룸
+        outboxMapper.markFailed(due.stream().map(OrderCreatedEvent::getOrderId).toList(), LocalDateTime.now().plus(retryDelay));
+        log.info("주문 이벤트 재전송 - {}건", due.size());
+        due.forEach(this::send);
+    }
+
+    // 응답 스레드에서 호출되므로 예외를 밖으로 던지지 않음 (실패분은 아웃박스에 남아 재전송)
+    private void send(OrderCreatedEvent event) {
+        try {
+            kafkaTemplate.send(ORDER_CREATED_TOPIC, String.valueOf(event.getFundingId()), event)
+                    // 프로듀서 I/O 스레드에서 DB 를 호출하지 않도록 별도 스레드에서 정리
+                    .whenCompleteAsync((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("주문 이벤트 전송 실패 - orderId: {}, error: {}", event.getOrderId(), ex.getMessage());
+                            return;
+                        }
+                        outboxMapper.deleteByIds(List.of(event.getOrderId()));
+                    });
+        } catch (RuntimeException e) {
+            log.warn("주문 이벤트 전송 실패 - orderId: {}, error: {}", event.getOrderId(), e.getMessage());
+        }
+    }
+}
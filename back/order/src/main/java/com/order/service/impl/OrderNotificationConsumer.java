@@ -0,0 +1,66 @@
+package com.order.service.impl;
+
+import com.order.client.FundingClient;
+import com.order.client.NotificationClient;
+import com.order.event.OrderCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+import static com.order.config.KafkaConfig.ORDER_CREATED_TOPIC;
+
+/**
+ * 주문 생성 이벤트 컨슈머 - 전체 모금액 알림 전송
+ * - 처리 시점의 total_fund 값을 notification 서비스로 보냅니다. (전체 모금액 컨슈머와 독립적으로 동작하므로 직전 값일 수 있음)
+ * - 주문별 처리 표시(order:notified:{orderId})로 재전달 시 중복 알림을 막고, 전송에 실패하면 표시를 지워 재시도되게 합니다.
+ */
+@Slf4j
+@Component
+public class OrderNotificationConsumer {
+
+    private static final String TOTAL_FUND_KEY = "total_fund";
+    private static final String NOTIFIED_KEY_PREFIX = "order:notified:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final FundingClient fundingClient;
+    private final NotificationClient notificationClient;
+    private final Duration dedupTtl;
+
+    public OrderNotificationConsumer(StringRedisTemplate redisTemplate,
+                                     FundingClient fundingClient,
+                                     NotificationClient notificationClient,
+                                     @Value("${order.event.dedup-ttl-hours:48}") long dedupTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.fundingClient = fundingClient;
+        this.notificationClient = notificationClient;
+        this.dedupTtl = Duration.ofHours(dedupTtlHours);
+    }
+
+    @KafkaListener(topics = ORDER_CREATED_TOPIC, groupId = "order-notification",
+            containerFactory = "orderCreatedListenerContainerFactory")
+    public void consume(OrderCreatedEvent event) {
+        String notifiedKey = NOTIFIED_KEY_PREFIX + event.getOrderId();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(notifiedKey, "1", dedupTtl))) {
+            log.debug("이미 알림을 보낸 주문 - orderId: {}", event.getOrderId());
+            return;
+        }
+
+        try {
+            notificationClient.sendTotalOrderAmount(currentTotalFund());
+        } catch (RuntimeException e) {
+            redisTemplate.delete(notifiedKey);
+            throw e;
+        }
+    }
+
+    // 카운터가 아직 없으면 funding 서비스가 DB 합계로 초기화
+    private Long currentTotalFund() {
+        String totalFund = redisTemplate.opsForValue().get(TOTAL_FUND_KEY);
+        if (totalFund != null) return Long.parseLong(totalFund);
+        return fundingClient.getTotalFund();
+    }
+}
@@ -3,8 +3,9 @@ package com.order.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.order.client.CouponClient;
+import com.order.client.CouponValidationClient;
 import com.order.client.FundingClient;
-import com.order.client.NotificationClient;
+import com.order.client.FundingValidationClient;
 import com.order.client.SellerClient;
 import com.order.client.UserClient;
 import com.order.common.exception.CustomException;
@@ -19,12 +20,15 @@ import com.order.dto.funding.response.GetSellerTodayOrderCountResponseDto;
 import com.order.dto.funding.response.GetSellerTodayOrderTopThreeIdAndMoneyResponseDto;
 import com.order.dto.funding.response.IsOngoingResponseDto;
 import com.order.dto.seller.response.TotalAmountResponseDto;
+import com.order.dto.order.response.MyFundingPageResponseDto;
+import com.order.dto.order.response.MyFundingSpendDto;
 import com.order.dto.order.response.OrderResponseDto;
 import com.order.dto.ssafyApi.request.HeaderDto;
 import com.order.dto.ssafyApi.request.TransferRequestDto;
 import com.order.dto.ssafyApi.response.ApiResponseDto;
 import com.order.dto.user.response.GetSellerFundingDetailOrderUserInfoListResponseDto;
 import com.order.entity.Order;
+import com.order.event.OrderCreatedEvent;
 import com.order.mapper.OrderMapper;
 import com.order.service.OrderService;
 import com.order.service.ssafyApi.ssafyApiService;
@@ -32,7 +36,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +43,15 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.order.common.response.ResponseCode.*;
@@ -55,9 +67,12 @@ public class OrderServiceImpl implements OrderService {
     private final ssafyApiService ssafyApiService;
     private final UserClient userClient;
     private final CouponClient couponClient;
-    private final StringRedisTemplate redisTemplate;
-    private final NotificationClient notificationClient;
-    private static final String TOTAL_FUND_KEY = "total_fund";
+    private final FundingValidationClient fundingValidationClient;
+    private final CouponValidationClient couponValidationClient;
+    private final MyFundingCache myFundingCache;
+    private final FundingStatusCache fundingStatusCache;
+    private final ExecutorService orderValidationExecutor;
+    private final OrderEventPublisher orderEventPublisher;
 
     @Value("${adm.account}")
     private String adminAccount;
@@ -65,21 +80,37 @@ public class OrderServiceImpl implements OrderService {
     @Value("${ssafy.apikey}")
     private String apikey;
 
+    // 주문 전 원격 검증 전체에 주어지는 시간
+    @Value("${order.validation.timeout-ms:3000}")
+    private long validationTimeoutMs;
+
+    // 내가 주문한 펀딩 페이지 크기 상한
+    @Value("${order.my-funding.max-page-size:50}")
+    private int myFundingMaxPageSize;
+
     // 결제 하기
     @Transactional
     public Order createOrder(int userId, int fundingId, int quantity, int totalPrice, String userKey, String userAccount, Integer couponId){
         int amount = totalPrice / quantity;
 
-        // 1. funding 중인 상품이 현재 펀딩 진행 중인지 확인 (sellerId 받아와아함)
-        IsOngoingResponseDto isOngoingResponseDto = fundingClient.isOngoing(fundingId);
+        // 1. 서로 독립적인 검증(펀딩 진행 여부, 쿠폰 조회)을 동시에 시작하고 같은 제한 시간 안에 기다림
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(validationTimeoutMs);
+        CompletableFuture<IsOngoingResponseDto> fundingCheck = submitValidation(
+                () -> fundingStatusCache.get(fundingId, () -> fundingValidationClient.isOngoing(fundingId)));
+        CompletableFuture<CouponResponseDto> couponCheck = couponId == null
+                ? CompletableFuture.completedFuture(null)
+                : submitValidation(() -> couponValidationClient.getCouponInfo(couponId));
 
+        // funding 중인 상품이 현재 펀딩 진행 중인지 확인 (sellerId 받아와아함)
+        IsOngoingResponseDto isOngoingResponseDto = await(fundingCheck, deadline, couponCheck);
         if (!isOngoingResponseDto.getIsOngoing()){ // 이미 끝난펀딩이면 종료
+            couponCheck.cancel(true);
             throw new CustomException(FUNDING_NOT_ONGOING);
         }
 
-        if (couponId != null) {
+        CouponResponseDto coupon = await(couponCheck, deadline, fundingCheck);
+        if (coupon != null) {
             log.info("couponId: " + couponId);
-            CouponResponseDto coupon = couponClient.getCouponInfo(couponId);
             totalPrice -= coupon.discountAmount();
             log.info("coupon: " + coupon + totalPrice);
             couponClient.useCoupon(userId, couponId, fundingId);
@@ -111,7 +142,8 @@ public class OrderServiceImpl implements OrderService {
 
         }
 
-        // 성공하면 order 테이블에 삽입
+        // 성공하면 order 테이블에 삽입 (구매자 등록 결과로 첫 주문인지 판별해 funding 구매자 수 집계에 전달)
+        boolean firstOrder = orderMapper.insertFundingBuyer(userId, fundingId) == 1;
         Order order = Order.builder()
                 .userId(userId)
                 .fundingId(fundingId)
@@ -122,18 +154,48 @@ public class OrderServiceImpl implements OrderService {
                 .updatedAt(LocalDateTime.now())
                 .build();
         orderMapper.createOrder(order);
+        myFundingCache.evict(userId);
 
-        AddCurrentAmountRequestDto addCurrentAmountRequestDto = AddCurrentAmountRequestDto.builder()
+        // 펀딩 금액/구매자 통계/전체 모금액/알림 반영은 커밋 이후 order-created 이벤트 컨슈머가 비동기로 처리
+        orderEventPublisher.publish(OrderCreatedEvent.builder()
+                .orderId(order.getOrderId())
+                .userId(userId)
                 .fundingId(fundingId)
-                .amount(totalPrice)
-                .build();
-
-        fundingClient.addCurrentAmount(addCurrentAmountRequestDto);
-        redisTemplate.delete(TOTAL_FUND_KEY);
-        notificationClient.sendTotalOrderAmount(fundingClient.getTotalFund());
+                .totalPrice(totalPrice)
+                .firstOrder(firstOrder)
+                .createdAt(order.getCreatedAt())
+                .build());
         return order;
     }
 
+    // 검증 풀의 대기열이 가득 차 거절되면 원격 호출을 더 쌓지 않고 바로 503 으로 응답
+    private <T> CompletableFuture<T> submitValidation(Supplier<T> validation) {
+        try {
+            return CompletableFuture.supplyAsync(validation, orderValidationExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(ORDER_VALIDATION_BUSY);
+        }
+    }
+
+    // 남은 제한 시간만큼 검증 결과를 기다리고, 시간이 지나면 남은 검증도 취소
+    private <T> T await(CompletableFuture<T> future, long deadline, CompletableFuture<?> other) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            other.cancel(true);
+            throw new CustomException(ORDER_VALIDATION_TIMEOUT);
+        } catch (ExecutionException e) {
+            other.cancel(true);
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            other.cancel(true);
+            throw new CustomException(ORDER_VALIDATION_TIMEOUT);
+        }
+    }
+
     public List<Order> getOrder(int userId){
         List<Order> orders = orderMapper.getOrders(userId);
         return orders;
@@ -242,17 +304,49 @@ public class OrderServiceImpl implements OrderService {
     }
 
     public List<FundingResponseDto> getMyFunding(int userId){
-        List<Integer> fundingIds = orderMapper.getMyFundingIds(userId);
-        List<Integer> deduplicatedIds = fundingIds.stream().distinct().toList();
-        if (deduplicatedIds.isEmpty()) {
+        return toMyFundings(orderMapper.getMyFundingSpends(userId, null, null));
+    }
+
+    // 내가 주문한 펀딩 페이지 조회 - 펀딩별 주문 합계와 페이지네이션은 SQL 에서, 결과는 사용자별 캐시
+    @Override
+    public MyFundingPageResponseDto getMyFundingPage(int userId, int page, int size) {
+        // 페이지 크기는 상한까지만 허용하고, OFFSET(page * size) 이 넘치는 페이지는 거절
+        if (page < 0 || size < 1) throw new CustomException(BAD_REQUEST);
+        int pageSize = Math.min(size, myFundingMaxPageSize);
+        if (page > Integer.MAX_VALUE / pageSize) throw new CustomException(BAD_REQUEST);
+
+        return myFundingCache.get(userId, page, pageSize, () -> {
+            int total = orderMapper.countMyFundings(userId);
+            List<MyFundingSpendDto> spends = total == 0
+                    ? List.of()
+                    : orderMapper.getMyFundingSpends(userId, page * pageSize, pageSize);
+            return MyFundingPageResponseDto.builder()
+                    .content(toMyFundings(spends))
+                    .page(page)
+                    .size(pageSize)
+                    .totalElements(total)
+                    .totalPages((int) Math.ceil((double) total / pageSize))
+                    .build();
+        });
+    }
+
+    // 펀딩 정보는 한 번에 일괄 조회하고, 주문 합계 순서(최근 주문순)대로 합침
+    private List<FundingResponseDto> toMyFundings(List<MyFundingSpendDto> spends) {
+        if (spends.isEmpty()) {
             return Collections.emptyList();
         }
-        List<FundingResponseDto> fundingList = fundingClient.getMyFunding(deduplicatedIds);
-        for(FundingResponseDto f : fundingList){
-            int price = orderMapper.getTotalPriceByFundingId(f.getFundingId(),userId);
-            f.setTotalPrice(price);
-        }
-        return fundingList;
+        List<Integer> fundingIds = spends.stream().map(MyFundingSpendDto::getFundingId).toList();
+        Map<Integer, FundingResponseDto> fundingById = fundingClient.getMyFunding(fundingIds).stream()
+                .collect(Collectors.toMap(FundingResponseDto::getFundingId, funding -> funding));
+
+        return spends.stream()
+                .map(spend -> {
+                    FundingResponseDto funding = fundingById.get(spend.getFundingId());
+                    if (funding != null) funding.setTotalPrice(spend.getTotalPrice());
+                    return funding;
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -268,5 +362,10 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.getTotalOrderCount(fundingIds);
 
     }
+
+    @Override
+    public List<FundingOrderStatsResponseDto> getFundingOrderStats(List<Integer> fundingIdList) {
+        return orderMapper.getFundingOrderStats(fundingIdList);
+    }
 }
 
@@ -0,0 +1,67 @@
+package com.order.service.impl;
+
+import com.order.event.OrderCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.order.config.KafkaConfig.ORDER_CREATED_TOPIC;
+
+/**
+ * 주문 생성 이벤트 컨슈머 - 전체 모금액(total_fund) 카운터 누적
+ * - 주문별 처리 표시(order:total-fund:applied:{orderId})와 INCRBY 를 한 스크립트로 실행해 재전달돼도 한 번만 더합니다.
+ * - 카운터가 없으면 더하지 않고, 다음 조회 때 funding 서비스가 DB 합계로 초기화합니다. (어긋난 값은 TotalFundReconciler 가 보정)
+ * - 더한 주문은 "orderId:금액" 으로 최근 반영 ZSET(order:total-fund:recent, score = 반영 시각)에 남겨,
+ *   보정 작업이 아직 반영되지 않은(전송/소비 지연 중인) 주문을 오차로 보지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class TotalFundConsumer {
+
+    private static final String TOTAL_FUND_KEY = "total_fund";
+    private static final String APPLIED_KEY_PREFIX = "order:total-fund:applied:";
+    static final String RECENT_KEY = "order:total-fund:recent";
+
+    // 처음 보는 주문일 때만 표시를 남기고, total_fund 가 있을 때만 INCRBY (없는 키에 더하면 0부터 시작하는 잘못된 합계가 생김)
+    // 더했으면 최근 반영 기록에 추가하고 보관 기간이 지난 기록은 정리
+    private static final DefaultRedisScript<Long> APPLY_ORDER_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[2], '1', 'NX', 'EX', ARGV[2]) then return -1 end
+            if redis.call('EXISTS', KEYS[1]) == 0 then return nil end
+            local total = redis.call('INCRBY', KEYS[1], ARGV[1])
+            redis.call('ZADD', KEYS[3], ARGV[3], ARGV[5] .. ':' .. ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', '(' .. ARGV[4])
+            return total
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration dedupTtl;
+    private final Duration recentRetention;
+
+    public TotalFundConsumer(StringRedisTemplate redisTemplate,
+                             @Value("${order.event.dedup-ttl-hours:48}") long dedupTtlHours,
+                             @Value("${order.total-fund.recent-retention-minutes:120}") long recentRetentionMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.dedupTtl = Duration.ofHours(dedupTtlHours);
+        this.recentRetention = Duration.ofMinutes(recentRetentionMinutes);
+    }
+
+    @KafkaListener(topics = ORDER_CREATED_TOPIC, groupId = "order-total-fund",
+            containerFactory = "orderCreatedListenerContainerFactory")
+    public void consume(OrderCreatedEvent event) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(APPLY_ORDER_SCRIPT,
+                List.of(TOTAL_FUND_KEY, APPLIED_KEY_PREFIX + event.getOrderId(), RECENT_KEY),
+                String.valueOf(event.getTotalPrice()), String.valueOf(dedupTtl.toSeconds()),
+                String.valueOf(now), String.valueOf(now - recentRetention.toMillis()), String.valueOf(event.getOrderId()));
+
+        if (result != null && result == -1) {
+            log.debug("이미 반영된 주문 - orderId: {}", event.getOrderId());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.order.service.impl;
+
+import com.order.mapper.OrderMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Scheduled Job - 전체 펀딩 금액(total_fund) 카운터 보정
+ * - total_fund 는 TotalFundConsumer 가 주문마다 INCRBY 로 누적하므로, 같은 원천인 주문 테이블 합계와 비교해 유실/중복된 증분을 맞춥니다.
+ * - 전송/소비 지연 중인 주문을 오차로 보지 않도록, 반영 확인 구간(confirm-window) 이전에 생성된 주문까지만 비교합니다.
+ *   기준 주문 ID(cutoffId) 이하 주문의 DB 합계와, 카운터에서 최근 반영 기록 중 cutoffId 를 넘는 주문 금액을 뺀 값을 비교합니다.
+ *   (최근 반영 기록보다 오래 지연된 주문은 오차로 보정되고, 반영되면 다음 실행에서 다시 맞춰짐)
+ * - 카운터 확인과 보정은 한 스크립트로 실행해 그 사이의 INCRBY 와 섞이지 않으며, 여러 인스턴스 중 잠금을 잡은 한 곳만 실행합니다.
+ */
+@Slf4j
+@Service
+public class TotalFundReconciler {
+
+    private static final String TOTAL_FUND_KEY = "total_fund";
+    private static final String LOCK_KEY = "order:total-fund:reconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // KEYS = [total_fund, 최근 반영 ZSET], ARGV = [cutoffId 이하 주문 DB 합계, cutoffId, 확인 구간 시작(ms)]
+    // 확인 구간 이후 반영된 주문 중 cutoffId 를 넘는 주문은 DB 합계에 없으므로 카운터에서 빼고 비교, 차이만큼 INCRBY
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then return nil end
+            local newer = 0
+            for _, member in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], ARGV[3], '+inf')) do
+                local sep = string.find(member, ':')
+                if tonumber(string.sub(member, 1, sep - 1)) > tonumber(ARGV[2]) then
+                    newer = newer + tonumber(string.sub(member, sep + 1))
+                end
+            end
+            local drift = tonumber(ARGV[1]) - (tonumber(current) - newer)
+            if drift ~= 0 then redis.call('INCRBY', KEYS[1], drift) end
+            return drift
+            """, Long.class);
+
+    // 잠금을 잡은 인스턴스의 토큰일 때만 해제 (TTL 만료 후 다른 인스턴스가 잡은 잠금을 지우지 않음)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final OrderMapper orderMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration confirmWindow;
+
+    public TotalFundReconciler(OrderMapper orderMapper,
+                               StringRedisTemplate redisTemplate,
+                               @Value("${order.total-fund.confirm-window-minutes:30}") long confirmWindowMinutes) {
+        this.orderMapper = orderMapper;
+        this.redisTemplate = redisTemplate;
+        this.confirmWindow = Duration.ofMinutes(confirmWindowMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${order.total-fund.reconcile-interval-ms:300000}")
+    public void reconcileTotalFund() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) return;
+        try {
+            // 최근 반영 기록의 시작을 DB 기준 시각보다 앞서 잡아, 기준 시각 직전 주문이 그 이후에 반영돼도 기록에 남아 있게 함
+            long windowStartMillis = System.currentTimeMillis() - confirmWindow.toMillis();
+            Integer cutoffId = orderMapper.getMaxOrderIdBefore(LocalDateTime.now().minus(confirmWindow));
+            if (cutoffId == null) return;
+            long confirmedTotal = orderMapper.sumTotalPriceUpTo(cutoffId);
+
+            Long drift = redisTemplate.execute(RECONCILE_SCRIPT, List.of(TOTAL_FUND_KEY, TotalFundConsumer.RECENT_KEY),
+                    String.valueOf(confirmedTotal), String.valueOf(cutoffId), String.valueOf(windowStartMillis));
+            if (drift != null && drift != 0) {
+                log.warn("total_fund 카운터 보정: drift={}, cutoffOrderId={}", drift, cutoffId);
+            }
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+}
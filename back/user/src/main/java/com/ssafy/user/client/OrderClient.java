@@ -1,5 +1,6 @@
 package com.ssafy.user.client;
 
+import com.ssafy.user.common.response.PageResponse;
 import com.ssafy.user.dto.response.FundingResponseDto;
 import com.ssafy.user.dto.response.GetMyTotalFundingResponseDto;
 import com.ssafy.user.dto.response.OrderResponseDto;
@@ -16,6 +17,11 @@ public interface OrderClient {
     @GetMapping("/api/order/funding")
     List<FundingResponseDto> getMyFundings(@RequestHeader("X-User-Id") int userId);
 
+    @GetMapping("/api/order/funding/page")
+    PageResponse<FundingResponseDto> getMyFundingPage(@RequestHeader("X-User-Id") int userId,
+                                                      @RequestParam(name = "page") int page,
+                                                      @RequestParam(name = "size") int size);
+
     @GetMapping("/api/order/funding/total")
     int getMyTotalFunding(@RequestHeader("X-User-Id") int userId);
 
@@ -2,11 +2,13 @@ package com.ssafy.user.common.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class PageResponse<T> {
     private List<T> content;
     private int page;
@@ -166,8 +166,8 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public PageResponse<FundingResponseDto> getMyFundingDetails(int userId, int page, int size) {
-        List<FundingResponseDto> all = orderClient.getMyFundings(userId);
-        return paginate(all, page, size);
+        // 페이지네이션과 펀딩별 주문 합계는 주문 서비스에서 SQL 로 처리 (사용자별 캐시)
+        return orderClient.getMyFundingPage(userId, page, size);
     }
 
     @Override